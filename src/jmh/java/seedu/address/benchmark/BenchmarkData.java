@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address book data for benchmarks, shaped like the data in {@code SampleDataUtil}.
+ * The generated data only depends on the number of patients asked for, so results are comparable between runs.
+ */
+public class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti", "Wei Ming", "Priya", "Jun Jie",
+        "Nur", "Marcus", "Hui Min", "Ravi", "Mei Ling", "Daniel", "Farah", "Kumar", "Grace", "Hafiz"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+        "Rahman", "Pillai", "Chua", "Goh", "Teo", "Lee", "Koh", "Ismail", "Chen", "Nair"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street", "Serangoon Gardens Street",
+        "Tampines Street", "Aljunied Street", "Bedok North Avenue", "Jurong West Street"
+    };
+    private static final String[] TAGS = {"low", "medium", "high"};
+    private static final String[] NOTES = {
+        "Peanut allergy", "Diabetic, check blood sugar before procedures", "Prefers morning appointments",
+        "Follow up on blood test results"
+    };
+
+    /**
+     * Returns {@code count} patients with distinct identities.
+     */
+    public static List<Person> generatePatients(int count) {
+        List<Person> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            patients.add(generatePatient(i));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an address book containing {@code count} patients.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePatients(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code i}-th generated patient. Every third patient has a note, and every fourth has no tag.
+     */
+    public static Patient generatePatient(int i) {
+        Name name = new Name(FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]);
+        Phone phone = new Phone(String.valueOf(80000000 + i));
+        Address address = new Address("Blk " + (i % 900 + 1) + " " + STREETS[i % STREETS.length] + " "
+                + (i % 90 + 1) + ", #" + String.format("%02d-%02d", i % 25 + 1, i % 99 + 1));
+        Tag tag = i % 4 == 3 ? null : new Tag(TAGS[i % TAGS.length]);
+
+        if (i % 3 == 0) {
+            return new Patient(name, phone, address, tag, new Note(NOTES[i % NOTES.length]));
+        }
+        return new Patient(name, phone, address, tag);
+    }
+
+    /**
+     * Returns the command that adds the {@code i}-th generated patient.
+     */
+    public static String generateAddCommand(int i) {
+        Patient patient = generatePatient(i);
+        return "add n/" + patient.getName().fullName + " p/" + patient.getPhone().value
+                + " a/" + patient.getAddress().value
+                + patient.getTag().map(tag -> " tag/" + tag.tagName).orElse("");
+    }
+}
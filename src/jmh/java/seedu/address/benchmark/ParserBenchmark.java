@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing the commands that add the generated patients.
+ * Each invocation parses the command for the next patient in turn, so that the whole set is covered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String[] addCommands;
+    private String[] addArguments;
+    private int next;
+
+    /**
+     * Generates the add commands for the patients, with and without the command word.
+     */
+    @Setup
+    public void setUp() {
+        addCommands = new String[patientCount];
+        addArguments = new String[patientCount];
+        for (int i = 0; i < patientCount; i++) {
+            addCommands[i] = BenchmarkData.generateAddCommand(i);
+            addArguments[i] = addCommands[i].substring("add".length());
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(addCommands[nextIndex()]);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addArguments[nextIndex()], PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    private int nextIndex() {
+        next = next + 1 == patientCount ? 0 : next + 1;
+        return next;
+    }
+}
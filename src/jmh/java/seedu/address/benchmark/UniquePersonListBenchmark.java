@@ -0,0 +1,126 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.PatientFilterPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks adding persons to, and looking persons up in, a {@code UniquePersonList}, including by name and tag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private List<Person> patients;
+    private UniquePersonList persons;
+    private Person presentPatient;
+    private Person editedPatient;
+    private Person absentPatient;
+
+    /**
+     * Generates the patients, and a list holding all but one of them.
+     */
+    @Setup
+    public void setUp() {
+        patients = BenchmarkData.generatePatients(patientCount);
+        absentPatient = BenchmarkData.generatePatient(patientCount);
+        presentPatient = patients.get(patientCount / 2);
+        editedPatient = BenchmarkData.generatePatient(patientCount / 2);
+        persons = new UniquePersonList();
+        persons.setPersons(patients);
+    }
+
+    /**
+     * Adds every patient, one at a time, to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person patient : patients) {
+            list.add(patient);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(presentPatient);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPatient);
+    }
+
+    /**
+     * Replaces a patient in the middle of the list with an edited copy, and back again.
+     */
+    @Benchmark
+    public UniquePersonList editPresent() {
+        persons.setPerson(presentPatient, editedPatient);
+        persons.setPerson(editedPatient, presentPatient);
+        return persons;
+    }
+
+    /**
+     * Finds the persons with a name word within one typing mistake of a keyword that has one.
+     */
+    @Benchmark
+    public Map<Person, Integer> findByNameFuzzy() {
+        return persons.getNameMatchCosts(List.of("Bernise"), NameMatchMode.FUZZY);
+    }
+
+    /**
+     * Finds the persons with a name word that starts with a short keyword.
+     */
+    @Benchmark
+    public Map<Person, Integer> findByNamePrefix() {
+        return persons.getNameMatchCosts(List.of("Ra"), NameMatchMode.PREFIX);
+    }
+
+    /**
+     * Finds the persons with a name word equal to a keyword, in the order of the list, as a find command does.
+     */
+    @Benchmark
+    public List<Person> findByNameExact() {
+        return persons.getPersonsWithNameContainingAnyOf(List.of("Bernice"));
+    }
+
+    /**
+     * Finds the patients with either of two tags and a name keyword, in the order of the list, as a filter command
+     * does.
+     */
+    @Benchmark
+    public List<Person> filterByTagsAndName() {
+        PatientFilterPredicate predicate = new PatientFilterPredicate(Set.of(Tag.of("high"), Tag.of("medium")),
+                List.of("Bernice"), Optional.empty());
+        return persons.getPersonsMatching(predicate);
+    }
+}
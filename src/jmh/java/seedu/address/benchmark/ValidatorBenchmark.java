@@ -0,0 +1,90 @@
+package seedu.address.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Phone;
+
+/**
+ * Benchmarks validating the fields of the generated patients, as done for every patient when the data file is loaded,
+ * against matching the same values with the validation regexes.
+ * Each invocation validates the fields of the next patient in turn, so that the whole set is covered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+
+    @Param({"100000"})
+    private int patientCount;
+
+    private String[] names;
+    private String[] lowerCaseNames;
+    private String[] phones;
+    private String[] addresses;
+    private int next;
+
+    /**
+     * Generates the field values of the patients.
+     */
+    @Setup
+    public void setUp() {
+        names = new String[patientCount];
+        lowerCaseNames = new String[patientCount];
+        phones = new String[patientCount];
+        addresses = new String[patientCount];
+        for (int i = 0; i < patientCount; i++) {
+            Patient patient = BenchmarkData.generatePatient(i);
+            names[i] = patient.getName().fullName;
+            lowerCaseNames[i] = names[i].toLowerCase(Locale.ROOT);
+            phones[i] = patient.getPhone().value;
+            addresses[i] = patient.getAddress().value;
+        }
+    }
+
+    @Benchmark
+    public boolean validateWithScanners() {
+        int i = nextIndex();
+        return Name.isValidName(names[i]) & Phone.isValidPhone(phones[i]) & Address.isValidAddress(addresses[i]);
+    }
+
+    @Benchmark
+    public boolean validateWithRegexes() {
+        int i = nextIndex();
+        return names[i].matches(Name.VALIDATION_REGEX) & phones[i].matches(Phone.VALIDATION_REGEX)
+                & addresses[i].matches(Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Name createTitleCasedName() {
+        return new Name(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public Name createLowerCaseName() {
+        return new Name(lowerCaseNames[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = next + 1 == patientCount ? 0 : next + 1;
+        return next;
+    }
+}
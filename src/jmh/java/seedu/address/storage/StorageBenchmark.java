@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks converting the address book to and from its json form, and saving and reading it as a json file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+    private Path saveFilePath;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Generates the address book, and saves it once so that there is a file to read back.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.generateAddressBook(patientCount);
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        saveFilePath = Files.createTempFile("addressbook-benchmark", ".json");
+        storage = new JsonAddressBookStorage(saveFilePath);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFilePath);
+        for (int i = 1; i <= JsonAddressBookStorage.DEFAULT_BACKUP_COUNT; i++) {
+            Files.deleteIfExists(FileUtil.getBackupFilePath(saveFilePath, i));
+        }
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+}
@@ -1,17 +1,37 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The size in bytes from which files are memory-mapped by {@link #readAsBuffer(Path)}. */
+    public static final long MAPPING_THRESHOLD = 256 * 1024;
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * On Windows, a file cannot be replaced or deleted while a mapping of it is open, and mappings are only released
+     * when they are garbage collected, so files are never mapped there.
+     */
+    private static final boolean CAN_REPLACE_MAPPED_FILES =
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +92,30 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the contents of {@code file} as a read-only buffer, positioned at the start of the file.
+     * Files of at least {@link #MAPPING_THRESHOLD} bytes are memory-mapped rather than copied onto the heap, so that
+     * large files can be parsed without holding a copy of their bytes in memory.
+     * Assumes file exists.
+     */
+    public static ByteBuffer readAsBuffer(Path file) throws IOException {
+        return readAsBuffer(file, MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #readAsBuffer(Path)}, but maps files of at least {@code mappingThreshold} bytes.
+     */
+    static ByteBuffer readAsBuffer(Path file, long mappingThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (CAN_REPLACE_MAPPED_FILES && size >= mappingThreshold) {
+                // the mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +124,112 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content written by {@code contentWriter} to a file, so that the file holds either its previous
+     * content or the complete new content, even if the app or the system crashes during the write.
+     * The content is written to a temporary file next to {@code file} and flushed to the disk, and the temporary file
+     * is then moved over {@code file} in a single step. Before the move, the previous content of {@code file} is kept
+     * as the first of {@code backupCount} backups, see {@link #getBackupFilePath(Path, int)}, and the older backups
+     * are shifted down by one.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, int backupCount)
+            throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        createParentDirsOfFile(file);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new UnclosableOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            if (backupCount > 0 && Files.exists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the location of the {@code generation}-th most recent backup of {@code file} kept by
+     * {@link #writeToFileAtomically(Path, ContentWriter, int)}, starting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts every backup of {@code file} down by one, dropping the oldest, and keeps the current content of
+     * {@code file} as the most recent backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupFilePath(file, 1);
+        try {
+            // a hard link keeps the current content without copying it, as the move only replaces the file's name
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened or flushed on some platforms, such as Windows, which do not need it
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A buffered output stream that is only flushed when closed, so that the file under it can still be flushed to
+     * the disk after the content has been written.
+     */
+    private static class UnclosableOutputStream extends BufferedOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
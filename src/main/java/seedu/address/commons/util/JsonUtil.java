@@ -6,12 +6,16 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +23,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -77,6 +82,100 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the JSON object in the given file, and passes each element of its array field {@code arrayFieldName} to
+     * {@code elementHandler} as soon as it has been read. Elements are not kept after being handled, and large files
+     * are parsed straight from a memory mapping of the file, so neither the file nor its decoded text is held in
+     * memory. Other fields of the object are skipped.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataLoadingException if the file is not a JSON object, or reading its elements failed.
+     * @throws E if {@code elementHandler} fails to handle an element, in which case no more elements are read.
+     */
+    public static <T, E extends Exception> boolean readJsonArrayElements(Path filePath, String arrayFieldName,
+            Class<T> elementClass, ElementHandler<T, E> elementHandler) throws DataLoadingException, E {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new ByteBufferBackedInputStream(FileUtil.readAsBuffer(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + fieldName);
+                }
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                        throw new JsonParseException(parser, "Unexpected null element in field " + fieldName);
+                    }
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the value of the integer field {@code fieldName} of the JSON object in the given file, or an empty
+     * {@code OptionalLong} if the file is not found or the object has no such field.
+     * The file is only read up to the field, and the values of the other fields before it are skipped.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file is not a JSON object, or the field is not an integer.
+     */
+    public static OptionalLong readJsonLongField(Path filePath, String fieldName) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return OptionalLong.empty();
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new ByteBufferBackedInputStream(FileUtil.readAsBuffer(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentFieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!currentFieldName.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.VALUE_NUMBER_INT) {
+                    throw new JsonParseException(parser, "Expected an integer in field " + fieldName);
+                }
+                return OptionalLong.of(parser.getLongValue());
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return OptionalLong.empty();
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +191,21 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves the Json object to the specified file, replacing the file in a single step once the object has been
+     * written in full, and keeping the previous {@code backupCount} versions of the file.
+     * The object is serialized straight into the file, only once.
+     *
+     * @see FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter, int)
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, int backupCount) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath,
+                out -> objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, jsonFile), backupCount);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +225,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles the elements read by {@link #readJsonArrayElements(Path, String, Class, ElementHandler)}.
+     *
+     * @param <T> the type of the elements
+     * @param <E> the type of exception thrown when an element cannot be handled
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable list of non-null elements, to which elements can be appended by creating a new list.
+ *
+ * Appending to the list shares the array of this list with the new list instead of copying it, as long as no other
+ * element was appended to this list before and the array has room left. The array is only copied, with twice the
+ * room, when it is full or when appending to an older version of the list, so appending is O(1) amortized.
+ * A list never reads the part of the array beyond its own size, so the lists sharing an array do not affect each other.
+ * Safe to use from multiple threads.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Elements(0), 0);
+
+    private final Elements elements;
+    private final int size;
+
+    private PersistentList(Elements elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} with the elements of {@code list}, in the same order.
+     * Returns {@code list} itself if it is already a {@code PersistentList}.
+     *
+     * @throws NullPointerException if {@code list} or any of its elements is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(List<? extends E> list) {
+        if (list instanceof PersistentList) {
+            return (PersistentList<E>) list;
+        }
+        requireAllNonNull(list);
+        if (list.isEmpty()) {
+            return empty();
+        }
+
+        Elements elements = new Elements(Math.max(list.size(), MIN_CAPACITY));
+        Object[] array = list.toArray();
+        System.arraycopy(array, 0, elements.array, 0, array.length);
+        elements.used.set(array.length);
+        return new PersistentList<>(elements, array.length);
+    }
+
+    /**
+     * Returns a new list with the elements of this list followed by {@code element}.
+     * This list is not modified.
+     */
+    public PersistentList<E> with(E element) {
+        requireNonNull(element);
+        if (size < elements.array.length && elements.used.compareAndSet(size, size + 1)) {
+            elements.array[size] = element;
+            return new PersistentList<>(elements, size + 1);
+        }
+
+        Elements grown = new Elements(Math.max(size * 2, MIN_CAPACITY));
+        System.arraycopy(elements.array, 0, grown.array, 0, size);
+        grown.array[size] = element;
+        grown.used.set(size + 1);
+        return new PersistentList<>(grown, size + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (E) elements.array[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements.array, size);
+    }
+
+    /**
+     * An array shared by lists, with the number of its slots that have been claimed by some list.
+     */
+    private static class Elements {
+        private final Object[] array;
+        private final AtomicInteger used = new AtomicInteger();
+
+        Elements(int capacity) {
+            array = new Object[capacity];
+        }
+    }
+}
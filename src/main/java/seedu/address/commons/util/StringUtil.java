@@ -38,6 +38,40 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * characters that must be inserted, deleted or replaced to turn one into the other. Case sensitive.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alce") == 1
+     *       editDistance("kurz", "kunz") == 1
+     *       editDistance("abc", "cba") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + replaceCost);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -65,4 +99,37 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} matches the regex {@code [^\s].*}, i.e. it does not start with whitespace and does
+     * not contain a line break after its first character. Scans {@code s} once, without compiling the regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isSingleLineNotStartingWithWhitespace(String s) {
+        requireNonNull(s);
+
+        if (s.isEmpty() || isRegexWhitespace(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            if (isLineTerminator(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex, i.e. it is an ASCII whitespace character.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, which is not matched by {@code .} in a regex.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
 }
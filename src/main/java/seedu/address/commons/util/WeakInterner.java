@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values loaded or parsed separately can share one
+ * instance.
+ *
+ * A value is only added to the pool once an equal value is interned again, so values that never repeat do not take
+ * up the pool. The pool only holds its values weakly, so a value is dropped once nothing else refers to it. It holds
+ * at most a fixed number of values; once full, an arbitrary value is dropped to make room for a new one.
+ * Safe to use from multiple threads. The pool is split into stripes by hash code, each with its own lock, so that
+ * threads interning different values rarely wait on each other.
+ */
+public class WeakInterner<T> {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final Stripe<T>[] stripes;
+
+    /**
+     * Creates an empty {@code WeakInterner} holding at most {@code maxSize} values.
+     */
+    @SuppressWarnings("unchecked")
+    public WeakInterner(int maxSize) {
+        checkArgument(maxSize > 0, "The maximum size must be positive.");
+        int stripeCount = Integer.highestOneBit(Math.min(maxSize, MAX_STRIPES));
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(maxSize / stripeCount);
+        }
+    }
+
+    /**
+     * Returns the instance in the pool that is equal to {@code value}. If there is none, returns an equal value
+     * interned recently, adding it to the pool, or {@code value} itself if there is no such value either.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        int hash = value.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)].intern(value, hash >>> 4);
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<T> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * A part of the pool, together with the values interned recently that are not in the pool yet. A recent value is
+     * kept in a slot picked by its hash code, where it is replaced by the next value with the same slot.
+     */
+    private static class Stripe<T> {
+        private final int maxSize;
+        private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+        private final WeakReference<T>[] recentValues;
+
+        @SuppressWarnings("unchecked")
+        Stripe(int maxSize) {
+            this.maxSize = maxSize;
+            recentValues = new WeakReference[maxSize];
+        }
+
+        synchronized T intern(T value, int hash) {
+            T canonical = dereference(pool.get(value));
+            if (canonical != null) {
+                return canonical;
+            }
+
+            int slot = Math.floorMod(hash, recentValues.length);
+            T recent = dereference(recentValues[slot]);
+            if (!value.equals(recent)) {
+                recentValues[slot] = new WeakReference<>(value);
+                return value;
+            }
+
+            recentValues[slot] = null;
+            if (pool.size() >= maxSize) {
+                Iterator<T> iterator = pool.keySet().iterator();
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+            pool.put(recent, new WeakReference<>(recent));
+            return recent;
+        }
+
+        synchronized int size() {
+            return pool.size();
+        }
+
+        private static <T> T dereference(WeakReference<T> reference) {
+            return reference == null ? null : reference.get();
+        }
+    }
+}
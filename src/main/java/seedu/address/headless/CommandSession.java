@@ -0,0 +1,86 @@
+package seedu.address.headless;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read from a stream, one per line, and writes the feedback of each of them to another stream.
+ *
+ * Each response starts with a status line, {@code OK n} if the command succeeded or {@code ERROR n} if it failed,
+ * followed by the {@code n} lines of the feedback, so that a script can tell where each response ends. A command that
+ * fails with an unexpected error is answered with {@code ERROR n} too, and the session goes on to the next command.
+ */
+public class CommandSession {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandSession.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code CommandSession} that runs the commands with {@code logic}.
+     */
+    public CommandSession(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the commands read from {@code in} until the end of the stream or a command that exits the application,
+     * writing the response to each command to {@code out} as soon as it has run. Blank lines are skipped.
+     *
+     * @return true if the session ended because a command exits the application.
+     * @throws IOException if reading from {@code in} or writing to {@code out} failed.
+     */
+    public boolean run(BufferedReader in, Writer out) throws IOException {
+        requireNonNull(in);
+        requireNonNull(out);
+
+        String commandText;
+        while ((commandText = in.readLine()) != null) {
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                writeResponse(out, STATUS_OK, commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return true;
+                }
+            } catch (CommandException | ParseException e) {
+                writeResponse(out, STATUS_ERROR, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while executing command " + commandText + ": "
+                        + StringUtil.getDetails(e));
+                writeResponse(out, STATUS_ERROR, String.format(MESSAGE_UNEXPECTED_ERROR, e));
+            }
+        }
+        return false;
+    }
+
+    private static void writeResponse(Writer out, String status, String feedback) throws IOException {
+        String[] lines = feedback.split("\\R", -1);
+        out.write(status + " " + lines.length + LINE_SEPARATOR);
+        for (String line : lines) {
+            out.write(line + LINE_SEPARATOR);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.headless;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.AppCore;
+import seedu.address.AppParameters;
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Runs the application without its UI, so that it can be driven by scripts on machines without a display.
+ *
+ * Commands are read from the standard input, or from connections to a local socket if the {@code --port=PORT}
+ * parameter is given, and their responses are written back as described in {@link CommandSession}.
+ * Connections to the socket are served one at a time, until a command exits the application.
+ * The data is saved when the application exits, including when it is terminated.
+ */
+public class HeadlessMain {
+
+    public static final String HEADLESS_PARAMETER = "--headless";
+    public static final String PORT_PARAMETER = "port";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        AppCore appCore = AppCore.init(AppParameters.parse(namedParameters).getConfigPath());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping AddressBook ] =============================");
+            appCore.stop();
+        }));
+
+        logger.info("Starting AddressBook " + MainApp.VERSION + " without UI");
+        CommandSession session = new CommandSession(appCore.getLogic());
+        String port = namedParameters.get(PORT_PARAMETER);
+        try {
+            if (port == null) {
+                session.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                        new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+            } else {
+                serve(session, Integer.parseInt(port));
+            }
+        } catch (NumberFormatException e) {
+            logger.severe("Invalid port " + port);
+        } catch (IOException e) {
+            logger.severe("Failed to run commands " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, as a map from name to value.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    /**
+     * Serves connections to the local socket at {@code port} one at a time, until a command exits the application.
+     */
+    private static void serve(CommandSession session, int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Listening on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                try (Socket socket = serverSocket.accept();
+                        BufferedReader in = new BufferedReader(
+                                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                        Writer out = new BufferedWriter(
+                                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                    if (session.run(in, out)) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    logger.warning("Connection failed " + StringUtil.getDetails(e));
+                }
+            }
+        }
+    }
+}
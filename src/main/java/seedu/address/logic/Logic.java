@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -47,4 +48,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Registers {@code listener} to be given the message to show for every failure to save the address book that is
+     * only detected after {@link #execute(String)} has returned, as the address book is saved in the background.
+     * The listener may be called on any thread.
+     */
+    void addSaveFailureListener(Consumer<String> listener);
 }
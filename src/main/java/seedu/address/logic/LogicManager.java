@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,9 +14,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -32,37 +37,76 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final CommandMetrics commandMetrics;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records the commands
+     * it executes in {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandMetrics = commandMetrics;
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
+    /**
+     * {@inheritDoc}
+     * The phases of the command are recorded in the {@code CommandMetrics} of this {@code LogicManager}, unless the
+     * command could not be parsed.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
         Command command = addressBookParser.parseCommand(commandText);
-        ReadOnlyAddressBook originalAddressBook = new AddressBook(model.getAddressBook());
-        commandResult = command.execute(model);
+        recording.endPhase(Phase.PARSE);
+        try {
+            return executeAndSave(command, recording);
+        } finally {
+            recording.finish(AddressBookParser.getCommandWord(commandText));
+        }
+    }
+
+    private CommandResult executeAndSave(Command command, CommandMetrics.Recording recording)
+            throws CommandException {
+        AddressBookSnapshot originalAddressBook = model.getAddressBookSnapshot();
+        CommandResult commandResult = command.execute(model);
+        recording.endPhase(Phase.EXECUTE);
+
+        AddressBookSnapshot modifiedAddressBook = model.getAddressBookSnapshot();
+        if (modifiedAddressBook.getVersion() == originalAddressBook.getVersion()) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(modifiedAddressBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        } finally {
+            recording.endPhase(Phase.SAVE);
         }
 
         return commandResult;
     }
 
+    private static String getSaveFailureMessage(IOException failure) {
+        if (failure instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -87,4 +131,10 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void addSaveFailureListener(Consumer<String> listener) {
+        requireNonNull(listener);
+        storage.addSaveFailureListener(failure -> listener.accept(getSaveFailureMessage(failure)));
+    }
 }
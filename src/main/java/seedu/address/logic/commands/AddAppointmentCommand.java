@@ -12,6 +12,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Appointment;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 
@@ -34,6 +35,8 @@ public class AddAppointmentCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New appointment added: %1$s";
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "This appointment already exists in the address book";
+    public static final String MESSAGE_APPOINTMENT_CONFLICT =
+            "This appointment overlaps the appointment of %1$s at %2$s";
 
     private final Index targetIndex;
     private final String date;
@@ -65,6 +68,14 @@ public class AddAppointmentCommand extends Command {
         }
 
         try {
+            Appointment appointment = new Appointment(date, time);
+            List<Person> conflictingPersons = model.getPersonsWithAppointmentsOverlapping(appointment);
+            if (!conflictingPersons.isEmpty()) {
+                Patient conflictingPatient = (Patient) conflictingPersons.get(0);
+                throw new CommandException(String.format(MESSAGE_APPOINTMENT_CONFLICT,
+                        conflictingPatient.getName(), conflictingPatient.getAppointment()));
+            }
+
             Patient updatedPatient = model.addAppointment(personToAddAppointment, date, time);
             String successMessage = String.format(MESSAGE_SUCCESS, Messages.format(updatedPatient));
             return new CommandResult(successMessage);
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file as a single change to the address book.
+ * If any of the commands fails, the changes made by the commands before it are undone.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "If any of them fails, none of them is applied. Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " intake.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+
+    private final Path filePath;
+    private final List<Line> lines;
+
+    /**
+     * Creates a {@code BatchCommand} that runs the commands of {@code lines}, which were read from {@code filePath}.
+     */
+    public BatchCommand(Path filePath, List<Line> lines) {
+        requireNonNull(filePath);
+        requireNonNull(lines);
+        this.filePath = filePath;
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookSnapshot originalAddressBook = model.getAddressBookSnapshot();
+
+        for (Line line : lines) {
+            try {
+                line.command().execute(model);
+            } catch (CommandException e) {
+                model.setAddressBook(originalAddressBook);
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, line.number(), e.getMessage()), e);
+            } catch (RuntimeException e) {
+                model.setAddressBook(originalAddressBook);
+                throw e;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return filePath.equals(otherBatchCommand.filePath) && lines.equals(otherBatchCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A command of the file, with the number of the line it was read from, starting from 1.
+     */
+    public record Line(int number, Command command) {
+        public Line {
+            requireNonNull(command);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PatientFilterPredicate;
+
+/**
+ * Lists the patients with any of the given tags, whose names contain any of the given keywords, and with an
+ * appointment on the given date, for the criteria that are given.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the patients matching all of the specified "
+            + "criteria: any of the tags, a name containing any of the keywords (case-insensitive, alphabetic), "
+            + "and an appointment on the date. At least one criterion must be given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...] "
+            + "[" + PREFIX_DATE + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "high "
+            + PREFIX_TAG + "medium "
+            + PREFIX_DATE + "10-10-2026";
+
+    private final PatientFilterPredicate predicate;
+
+    public FilterCommand(PatientFilterPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByFilter(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
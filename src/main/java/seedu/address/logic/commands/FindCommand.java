@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -9,7 +10,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and can also match words starting with, or close to, the keywords.
  */
 public class FindCommand extends Command {
 
@@ -17,8 +18,12 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive, alphabetic) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PREFIX_MODE + "prefix, a keyword also matches the words starting with it. With " + PREFIX_MODE
+            + "fuzzy, it also matches the words within a few typing mistakes of it. Both list the closest matches "
+            + "first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_MODE + "exact|prefix|fuzzy]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alce " + PREFIX_MODE + "fuzzy";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +34,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
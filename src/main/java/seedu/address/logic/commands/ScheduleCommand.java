@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the patients with an appointment on a given day, optionally between two times, in order of their
+ * appointments.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the patients with an appointment on the "
+            + "specified date, optionally starting between the specified times, in order of their appointments.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DATE "
+            + "[" + PREFIX_FROM + "START_TIME] "
+            + "[" + PREFIX_TO + "END_TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "10-10-2026 "
+            + PREFIX_FROM + "09:00 "
+            + PREFIX_TO + "12:00";
+
+    public static final String MESSAGE_SUCCESS = "%1$d appointment(s) from %2$s to %3$s";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
+    private final AppointmentBetweenPredicate predicate;
+
+    public ScheduleCommand(AppointmentBetweenPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByAppointment(predicate);
+        List<Person> scheduledPersons = model.getFilteredPersonList();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, scheduledPersons.size(),
+                predicate.getStart().format(DATE_TIME_FORMATTER), predicate.getEnd().format(DATE_TIME_FORMATTER)));
+        for (Person person : scheduledPersons) {
+            feedback.append('\n')
+                    .append(((Patient) person).getAppointment())
+                    .append(": ")
+                    .append(person.getName());
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
+        return predicate.equals(otherScheduleCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
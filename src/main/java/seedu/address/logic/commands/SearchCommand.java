@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the patients with a note containing the given words, and shows the notes with the words highlighted.
+ * Word matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients with a note containing the "
+            + "specified words in the same order (case-insensitive), and displays them as a list with index numbers, "
+            + "along with the notes that contain the words.\n"
+            + "Parameters: WORD [MORE_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " insulin\n"
+            + "Example: " + COMMAND_WORD + " blood sugar";
+
+    public static final String MESSAGE_SUCCESS = "%1$d patient(s) with notes mentioning \"%2$s\"";
+
+    public static final String HIGHLIGHT_START = "[";
+    public static final String HIGHLIGHT_END = "]";
+
+    private final NoteContainsPhrasePredicate predicate;
+
+    public SearchCommand(NoteContainsPhrasePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByNote(predicate);
+        List<Person> matchedPersons = model.getFilteredPersonList();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, matchedPersons.size(),
+                predicate.getPhrase()));
+        for (Person person : matchedPersons) {
+            List<NoteMatch> matches = model.getNoteMatches(person, predicate);
+            List<Note> notes = ((Patient) person).getNotes();
+            int i = 0;
+            while (i < matches.size()) {
+                int noteIndex = matches.get(i).noteIndex();
+                int end = i;
+                while (end < matches.size() && matches.get(end).noteIndex() == noteIndex) {
+                    end++;
+                }
+                feedback.append('\n')
+                        .append(person.getName())
+                        .append(": ")
+                        .append(highlight(notes.get(noteIndex).value, matches.subList(i, end)));
+                i = end;
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns {@code text} with the ranges of {@code matches} highlighted. Overlapping ranges are highlighted as one.
+     * {@code matches} must be in order of their start.
+     */
+    static String highlight(String text, List<NoteMatch> matches) {
+        StringBuilder highlighted = new StringBuilder(text.length() + matches.size() * 2);
+        int copied = 0;
+        int i = 0;
+        while (i < matches.size()) {
+            int start = matches.get(i).start();
+            int end = matches.get(i).end();
+            for (i++; i < matches.size() && matches.get(i).start() <= end; i++) {
+                end = Math.max(end, matches.get(i).end());
+            }
+            highlighted.append(text, copied, start)
+                    .append(HIGHLIGHT_START)
+                    .append(text, start, end)
+                    .append(HIGHLIGHT_END);
+            copied = end;
+        }
+        return highlighted.append(text, copied, text.length()).toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return predicate.equals(otherSearchCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
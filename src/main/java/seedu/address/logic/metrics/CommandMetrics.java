@@ -0,0 +1,172 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records how long each phase of the commands takes, and how many bytes the commands allocate, per command word.
+ * Recordings can be made from any thread.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    private static final String SUMMARY_HEADER = "Command: runs, then p50 | p99 of parse, execute and save times (ms)"
+            + " and of allocated memory";
+    private static final String NO_VALUE = "-";
+
+    private final ConcurrentMap<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final ThreadMXBean threadMxBean = getThreadMxBean();
+
+    /**
+     * Starts recording a command that is about to be parsed, on the current thread.
+     */
+    public Recording startRecording() {
+        return new Recording();
+    }
+
+    /**
+     * Returns the durations of {@code phase} recorded for {@code commandWord}, in nanoseconds, or an empty histogram
+     * if no command with {@code commandWord} has been recorded.
+     */
+    public Histogram getDurations(String commandWord, Phase phase) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new Histogram() : stats.durations.get(phase);
+    }
+
+    /**
+     * Returns the bytes allocated by the commands recorded for {@code commandWord}, or an empty histogram if no
+     * command with {@code commandWord} has been recorded, or allocations cannot be measured on this JVM.
+     */
+    public Histogram getAllocatedBytes(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new Histogram() : stats.allocatedBytes;
+    }
+
+    /**
+     * Returns the p50 and p99 of every phase and of the allocated bytes, with one line per command word, in the
+     * order of the command words.
+     */
+    public String getSummary() {
+        if (statsByCommandWord.isEmpty()) {
+            return "No commands recorded";
+        }
+
+        StringBuilder summary = new StringBuilder(SUMMARY_HEADER);
+        statsByCommandWord.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> appendSummaryLine(summary, entry.getKey(), entry.getValue()));
+        return summary.toString();
+    }
+
+    private void appendSummaryLine(StringBuilder summary, String commandWord, CommandStats stats) {
+        summary.append('\n').append(commandWord).append(": ").append(stats.runCount.sum());
+        for (Phase phase : Phase.values()) {
+            Histogram durations = stats.durations.get(phase);
+            summary.append(", ").append(phase.name().toLowerCase(Locale.ROOT))
+                    .append(' ').append(formatMillis(durations, 50))
+                    .append(" | ").append(formatMillis(durations, 99));
+        }
+        summary.append(", allocated ").append(formatBytes(stats.allocatedBytes, 50))
+                .append(" | ").append(formatBytes(stats.allocatedBytes, 99));
+    }
+
+    private static String formatMillis(Histogram durations, double percentile) {
+        if (durations.getCount() == 0) {
+            return NO_VALUE;
+        }
+        long nanos = durations.getValueAtPercentile(percentile);
+        return String.format("%.3f", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String formatBytes(Histogram allocatedBytes, double percentile) {
+        if (allocatedBytes.getCount() == 0) {
+            return NO_VALUE;
+        }
+        long bytes = allocatedBytes.getValueAtPercentile(percentile);
+        return bytes < 1024 ? bytes + " B" : String.format("%.1f KiB", bytes / 1024.0);
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or -1 if they cannot be measured.
+     */
+    private long getCurrentThreadAllocatedBytes() {
+        return threadMxBean == null ? -1 : threadMxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static ThreadMXBean getThreadMxBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMxBean)
+                || !threadMxBean.isThreadAllocatedMemorySupported()
+                || !threadMxBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        return threadMxBean;
+    }
+
+    /**
+     * The recordings of the commands with the same command word.
+     */
+    private static class CommandStats {
+        private final LongAdder runCount = new LongAdder();
+        private final Map<Phase, Histogram> durations = new EnumMap<>(Phase.class);
+        private final Histogram allocatedBytes = new Histogram();
+
+        CommandStats() {
+            for (Phase phase : Phase.values()) {
+                durations.put(phase, new Histogram());
+            }
+        }
+    }
+
+    /**
+     * The recording of a single command, made on the thread that runs it.
+     * The duration of each phase is measured from the end of the previous phase, or from the start of the recording.
+     */
+    public class Recording {
+        private final Map<Phase, Long> phaseDurations = new EnumMap<>(Phase.class);
+        private final long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        private long phaseStartTime = System.nanoTime();
+
+        private Recording() {}
+
+        /**
+         * Marks the end of {@code phase}, which started when the previous phase ended.
+         */
+        public void endPhase(Phase phase) {
+            requireNonNull(phase);
+            long now = System.nanoTime();
+            phaseDurations.put(phase, now - phaseStartTime);
+            phaseStartTime = now;
+        }
+
+        /**
+         * Records the phases that have ended, and the bytes allocated since the start of this recording, under
+         * {@code commandWord}.
+         */
+        public void finish(String commandWord) {
+            requireNonNull(commandWord);
+            long endAllocatedBytes = getCurrentThreadAllocatedBytes();
+            CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, word -> new CommandStats());
+            stats.runCount.increment();
+            phaseDurations.forEach((phase, duration) -> stats.durations.get(phase).record(duration));
+            if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+                stats.allocatedBytes.record(endAllocatedBytes - startAllocatedBytes);
+            }
+        }
+    }
+}
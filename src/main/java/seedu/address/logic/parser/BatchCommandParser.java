@@ -0,0 +1,93 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code BatchCommand} object, parsing every command of the file.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s";
+    public static final String MESSAGE_NO_COMMANDS = "The file %1$s has no commands";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "'%1$s' cannot be run in a batch";
+
+    private static final String COMMENT_START = "#";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchCommandParser} that parses the commands of the file with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code BatchCommand}
+     * and returns a {@code BatchCommand} object for execution.
+     *
+     * @throws ParseException if the file cannot be read, or if any of its commands does not conform to the expected
+     *     format. The message lists the error of every such command.
+     */
+    @Override
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        List<String> fileLines;
+        try {
+            filePath = Path.of(trimmedArgs);
+            fileLines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs), e);
+        }
+
+        List<BatchCommand.Line> lines = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < fileLines.size(); i++) {
+            String commandText = fileLines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            String commandWord = AddressBookParser.getCommandWord(commandText);
+            if (commandWord.equals(BatchCommand.COMMAND_WORD) || commandWord.equals(ExitCommand.COMMAND_WORD)) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber,
+                        String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord)));
+                continue;
+            }
+            try {
+                lines.add(new BatchCommand.Line(lineNumber, addressBookParser.parseCommand(commandText)));
+            } catch (ParseException e) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors));
+        }
+        if (lines.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_NO_COMMANDS, trimmedArgs));
+        }
+        return new BatchCommand(filePath, lines);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PatientFilterPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new {@code FilterCommand} object.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final Pattern NAME_KEYWORDS_FORMAT = Pattern.compile("[A-Za-z]+(\\s+[A-Za-z]+)*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FilterCommand}
+     * and returns a {@code FilterCommand} object for execution.
+     * At least one of the tags, name keywords or date must be given.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_NAME, PREFIX_DATE);
+
+        boolean hasCriterion = !argMultimap.getAllValues(PREFIX_TAG).isEmpty()
+                || argMultimap.getValue(PREFIX_NAME).isPresent()
+                || argMultimap.getValue(PREFIX_DATE).isPresent();
+        if (!hasCriterion || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_DATE);
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        List<String> keywords = new ArrayList<>();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            String trimmedNames = argMultimap.getValue(PREFIX_NAME).get().trim();
+            if (!NAME_KEYWORDS_FORMAT.matcher(trimmedNames).matches()) { // if not only words of letters
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+            }
+            keywords.addAll(Arrays.asList(WHITESPACE.split(trimmedNames)));
+        }
+
+        Optional<LocalDate> date = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            date = Optional.of(ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+
+        return new FilterCommand(new PatientFilterPredicate(tags, keywords, date));
+    }
+}
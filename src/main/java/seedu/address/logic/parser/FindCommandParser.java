@@ -1,12 +1,14 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
 import java.util.Arrays;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -19,7 +21,8 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODE);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -34,7 +37,13 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODE);
+        NameMatchMode mode = NameMatchMode.EXACT;
+        if (argMultimap.getValue(PREFIX_MODE).isPresent()) {
+            mode = ParserUtil.parseNameMatchMode(argMultimap.getValue(PREFIX_MODE).get());
+        }
+
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), mode));
     }
 
 }
@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -10,7 +13,9 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameMatchMode;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
@@ -89,7 +94,7 @@ public class ParserUtil {
             throw new ParseException(Address.BLANK_ADDRESS);
         }
 
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -104,7 +109,22 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
+    }
+
+    /**
+     * Parses a {@code String mode} into a {@code NameMatchMode}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code mode} is invalid.
+     */
+    public static NameMatchMode parseNameMatchMode(String mode) throws ParseException {
+        requireNonNull(mode);
+        String trimmedMode = mode.trim();
+        if (!NameMatchMode.isValidMode(trimmedMode)) {
+            throw new ParseException(NameMatchMode.MESSAGE_CONSTRAINTS);
+        }
+        return NameMatchMode.of(trimmedMode);
     }
 
     /**
@@ -129,6 +149,36 @@ public class ParserUtil {
         return trimmedTime;
     }
 
+    /**
+     * Parses a {@code String date} in the format of appointment dates into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseLocalDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), Appointment.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Parses a {@code String time} in the format of appointment times into a {@code LocalTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code time} is invalid.
+     */
+    public static LocalTime parseLocalTime(String time) throws ParseException {
+        requireNonNull(time);
+        try {
+            return LocalTime.parse(time.trim(), Appointment.TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+    }
+
     /**
      * Parses a {@code String note} into a {@code Note}.
      * Leading and trailing whitespaces will be trimmed.
@@ -145,7 +195,7 @@ public class ParserUtil {
                 throw new ParseException(Note.MESSAGE_CONSTRAINTS);
             }
         }
-        return new Note(trimmedNote);
+        return Note.of(trimmedNote);
     }
 
     /**
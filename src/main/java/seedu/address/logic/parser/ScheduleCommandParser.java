@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+
+/**
+ * Parses input arguments and creates a new {@code ScheduleCommand} object.
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start time must be before the end time.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ScheduleCommand}
+     * and returns a {@code ScheduleCommand} object for execution.
+     * Without a start time, the range starts at the beginning of the day. Without an end time, it ends at the end of
+     * the day.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    @Override
+    public ScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_FROM, PREFIX_TO);
+
+        if (argMultimap.getValue(PREFIX_DATE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_FROM, PREFIX_TO);
+
+        LocalDate date = ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDateTime start = date.atStartOfDay();
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            start = date.atTime(ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_FROM).get()));
+        }
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            LocalTime endTime = ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_TO).get());
+            end = date.atTime(endTime);
+        }
+
+        if (!start.isBefore(end)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ScheduleCommand(new AppointmentBetweenPredicate(start, end));
+    }
+}
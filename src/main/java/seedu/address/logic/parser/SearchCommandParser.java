@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+
+/**
+ * Parses input arguments and creates a new {@code SearchCommand} object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SearchCommand}
+     * and returns a {@code SearchCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        if (!NoteContainsPhrasePredicate.isValidPhrase(trimmedArgs)) {
+            throw new ParseException(NoteContainsPhrasePredicate.MESSAGE_CONSTRAINTS);
+        }
+
+        return new SearchCommand(new NoteContainsPhrasePredicate(trimmedArgs));
+    }
+}
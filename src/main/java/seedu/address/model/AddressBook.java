@@ -2,10 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -94,6 +103,110 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns a predicate that tests if the name of a person in this address book contains any of {@code keywords},
+     * ignoring case, by looking it up in the name index.
+     */
+    public Predicate<Person> nameContainsAnyOf(Collection<String> keywords) {
+        return persons.nameContainsAnyOf(keywords);
+    }
+
+    /**
+     * Returns the persons in this address book whose name contains any of {@code keywords}, ignoring case, in the
+     * order of this address book, by looking them up in the name index.
+     */
+    public List<Person> getPersonsWithNameContainingAnyOf(Collection<String> keywords) {
+        return persons.getPersonsWithNameContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the cost of matching the name of every person in this address book whose name matches any of
+     * {@code keywords} in {@code mode}, keyed by reference, by looking it up in the name index.
+     */
+    public Map<Person, Integer> getNameMatchCosts(Collection<String> keywords, NameMatchMode mode) {
+        return persons.getNameMatchCosts(keywords, mode);
+    }
+
+    /**
+     * Returns a predicate that tests if a patient in this address book has a note containing the phrase of
+     * {@code predicate}, by looking it up in the note index.
+     */
+    public Predicate<Person> notesContain(NoteContainsPhrasePredicate predicate) {
+        return persons.notesContain(predicate);
+    }
+
+    /**
+     * Returns the patients in this address book with a note containing the phrase of {@code predicate}, in the order
+     * of this address book, by looking them up in the note index.
+     */
+    public List<Person> getPersonsWithNotesContaining(NoteContainsPhrasePredicate predicate) {
+        return persons.getPersonsWithNotesContaining(predicate);
+    }
+
+    /**
+     * Returns the occurrences of the phrase of {@code predicate} in the notes of {@code person}, who must be in this
+     * address book, by looking it up in the note index.
+     */
+    public List<NoteMatch> getNoteMatches(Person person, NoteContainsPhrasePredicate predicate) {
+        return persons.getNoteMatches(person, predicate);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this address book matches {@code predicate}, by combining the
+     * bitmaps of the tag index with the persons matched in the name and appointment indexes.
+     */
+    public Predicate<Person> filter(PatientFilterPredicate predicate) {
+        return persons.filter(predicate);
+    }
+
+    /**
+     * Returns the persons in this address book that match {@code predicate}, in the order of this address book, by
+     * combining the bitmaps of the tag index with the persons matched in the name and appointment indexes.
+     */
+    public List<Person> getPersonsMatching(PatientFilterPredicate predicate) {
+        return persons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns {@code persons}, which must all be in this address book, in the order of this address book.
+     */
+    public List<Person> inListOrder(Collection<Person> persons) {
+        return this.persons.inListOrder(persons);
+    }
+
+    /**
+     * Returns the persons with an appointment that starts at or after {@code start} and before {@code end}, in order
+     * of the start of their appointment.
+     */
+    public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+        return persons.getPersonsWithAppointmentsBetween(start, end);
+    }
+
+    /**
+     * Returns the persons with an appointment that overlaps {@code appointment}.
+     */
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+        return persons.getPersonsWithAppointmentsOverlapping(appointment);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns the version of this address book, which changes every time its persons are modified.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the current state of this address book.
+     * Taking a snapshot does not copy the persons; they are only copied when the snapshot is first read, and rebuilt
+     * if this address book has been modified by then.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.getVersion(), persons.snapshot());
+    }
+
     //// util methods
 
     @Override
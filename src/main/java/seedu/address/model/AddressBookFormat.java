@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book can be stored in its data file.
+ */
+public enum AddressBookFormat {
+    /** A json file, with the changes since it was last written kept in a journal next to it. */
+    JSON,
+    /** A compact binary file, which is faster to load. */
+    BINARY
+}
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * An unmodifiable view of an {@code AddressBook} as it was at a given version.
+ * Later modifications of the address book do not affect the snapshot, which can be read from any thread.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final List<Person> source;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of version {@code version} containing {@code persons}.
+     * {@code persons} must not be modified afterwards.
+     */
+    AddressBookSnapshot(long version, List<Person> persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.source = persons;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    /**
+     * Returns the version of the address book captured by this snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the modifications made to the address book between {@code earlier} and this snapshot, in the order in
+     * which they were made, or an empty {@code Optional} if they were not recorded, as when the snapshots are of
+     * different address books, or the persons were replaced as a whole in between.
+     */
+    public Optional<List<PersonListChange>> getChangesSince(AddressBookSnapshot earlier) {
+        requireNonNull(earlier);
+        return UniquePersonList.getChangesBetween(earlier.source, source);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+}
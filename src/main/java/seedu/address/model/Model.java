@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -53,6 +61,19 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unmodifiable snapshot of the current state of the AddressBook, which is not affected by later
+     * changes to the AddressBook. Taking a snapshot does not copy the AddressBook.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Returns an unmodifiable copy of the current state of the AddressBook.
+     * Unlike the other methods, this can be called from any thread, e.g. by background exporters, while commands
+     * modify the AddressBook on another thread. Calls that find the AddressBook unchanged return the same copy.
+     */
+    AddressBookSnapshot getPublishedAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -86,6 +107,18 @@ public interface Model {
      */
     Patient addAppointment(Person person, String date, String time);
 
+    /**
+     * Returns the persons with an appointment that starts at or after {@code start} and before {@code end}, in order
+     * of the start of their appointment.
+     */
+    List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the persons with an appointment that overlaps {@code appointment}, in order of the start of their
+     * appointment. Appointments are taken to last {@link Appointment#SLOT_LENGTH}.
+     */
+    List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -98,7 +131,44 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The persons are shown in the order of the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}, looking up its
+     * keywords in the name index of the address book instead of testing every name.
+     * Unless its mode is {@code NameMatchMode#EXACT}, the persons are ordered from the closest match to the furthest.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the patients with a note matched by {@code predicate},
+     * looking up its phrase in the note index of the address book instead of scanning every note.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByNote(NoteContainsPhrasePredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}, combining the
+     * tag bitmaps of the address book with its name and appointment indexes instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByFilter(PatientFilterPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the patients with an appointment in the range of
+     * {@code predicate}, in order of the start of their appointments, looking them up in the appointment index of the
+     * address book instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByAppointment(AppointmentBetweenPredicate predicate);
+
+    /**
+     * Returns the occurrences of the phrase of {@code predicate} in the notes of {@code person}, looked up in the note
+     * index of the address book. {@code person} must exist in the address book.
+     */
+    List<NoteMatch> getNoteMatches(Person person, NoteContainsPhrasePredicate predicate);
 }
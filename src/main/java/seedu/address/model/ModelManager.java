@@ -4,25 +4,56 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Modifications of the address book hold the write lock of {@code lock}. Other threads read the address book only
+ * through {@link #getPublishedAddressBook()}, which copies it under the read lock, once per version of the address
+ * book that is read.
+ *
+ * The persons shown are the matches of the current {@link Search}, looked up in the indexes of the address book where
+ * the search allows it, so that a search takes time in proportion to the number of persons it matches. They are kept
+ * up to date by applying every change of the address book to them, rather than by searching it again. The matches of
+ * recent name searches are kept in a {@link NameSearchCache}, so that repeating or narrowing a find reuses them.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final Comparator<Person> APPOINTMENT_ORDER =
+            Comparator.comparing(person -> ((Patient) person).getAppointment().getDateTime());
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final SortedList<Person> sortedPersons = new SortedList<>(shownPersons);
+    private final NameSearchCache nameSearches;
+    private final StampedLock lock = new StampedLock();
+
+    private Search search;
+
+    private volatile AddressBookSnapshot publishedAddressBook;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,7 +65,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.nameSearches = new NameSearchCache(this.addressBook);
+        this.addressBook.getPersonList().addListener(this::updateShownPersons);
+        showAll();
     }
 
     public ModelManager() {
@@ -80,7 +113,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        modifyAddressBook(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -88,6 +121,33 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public AddressBookSnapshot getPublishedAddressBook() {
+        AddressBookSnapshot published = publishedAddressBook;
+        long stamp = lock.tryOptimisticRead();
+        if (published != null && published.getVersion() == addressBook.getVersion() && lock.validate(stamp)) {
+            return published;
+        }
+
+        stamp = lock.readLock();
+        try {
+            published = publishedAddressBook;
+            if (published == null || published.getVersion() != addressBook.getVersion()) {
+                published = new AddressBookSnapshot(addressBook.getVersion(),
+                        List.copyOf(addressBook.getPersonList()));
+                publishedAddressBook = published;
+            }
+            return published;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -106,13 +166,15 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        modifyAddressBook(() -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modifyAddressBook(() -> addressBook.addPerson(person));
+        if (!search.showsAll()) {
+            showAll();
+        }
     }
 
     @Override
@@ -133,11 +195,36 @@ public class ModelManager implements Model {
         return updatedPatient;
     }
 
+    @Override
+    public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return addressBook.getPersonsWithAppointmentsBetween(start, end);
+    }
+
+    @Override
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+        requireNonNull(appointment);
+        return addressBook.getPersonsWithAppointmentsOverlapping(appointment);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        modifyAddressBook(() -> addressBook.setPerson(target, editedPerson));
+    }
+
+    /**
+     * Runs {@code modification} of the address book while holding the write lock, so that no other thread copies the
+     * address book halfway through it.
+     */
+    private void modifyAddressBook(Runnable modification) {
+        long stamp = lock.writeLock();
+        try {
+            modification.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -148,13 +235,154 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            showAll();
+            return;
+        }
+        show(new Search(predicate, () -> addressBook.getPersonList().stream().filter(predicate).toList(), null));
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (predicate.getMode() == NameMatchMode.EXACT) {
+            show(new Search(addressBook.nameContainsAnyOf(predicate.getKeywords()),
+                    () -> nameSearches.find(predicate).persons(), null));
+            return;
+        }
+
+        NameMatchRanking ranking = new NameMatchRanking(nameSearches, predicate);
+        show(new Search(ranking, ranking::findMatches, ranking));
+    }
+
+    @Override
+    public void updateFilteredPersonListByNote(NoteContainsPhrasePredicate predicate) {
+        requireNonNull(predicate);
+        show(new Search(addressBook.notesContain(predicate),
+                () -> addressBook.getPersonsWithNotesContaining(predicate), null));
+    }
+
+    @Override
+    public void updateFilteredPersonListByFilter(PatientFilterPredicate predicate) {
+        requireNonNull(predicate);
+        show(new Search(addressBook.filter(predicate), () -> addressBook.getPersonsMatching(predicate), null));
+    }
+
+    private void showAll() {
+        show(new Search(PREDICATE_SHOW_ALL_PERSONS, addressBook::getPersonList, null));
+    }
+
+    @Override
+    public void updateFilteredPersonListByAppointment(AppointmentBetweenPredicate predicate) {
+        requireNonNull(predicate);
+        show(new Search(predicate,
+                () -> addressBook.getPersonsWithAppointmentsBetween(predicate.getStart(), predicate.getEnd()),
+                APPOINTMENT_ORDER));
+    }
+
+    /**
+     * Makes {@code search} the current search and shows its matches.
+     */
+    private void show(Search search) {
+        this.search = search;
+        shownPersons.setAll(search.findMatches().get());
+        sortedPersons.setComparator(search.order());
+    }
+
+    /**
+     * Applies {@code change} of the address book to the persons shown. When all persons are shown, the change is
+     * applied as it is. Otherwise, only the persons edited into or added to the address book are tested against the
+     * current search, and the search is made again if that is not enough to place them.
+     */
+    private void updateShownPersons(ListChangeListener.Change<? extends Person> change) {
+        nameSearches.clear();
+        while (change.next()) {
+            if (search.showsAll()) {
+                applyChange(change);
+            } else if (!applySearchChange(change)) {
+                shownPersons.setAll(search.findMatches().get());
+                return;
+            }
+        }
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+            shownPersons.set(from, change.getAddedSubList().get(0));
+            return;
+        }
+        if (change.wasRemoved()) {
+            shownPersons.remove(from, from + change.getRemovedSize());
+        }
+        if (change.wasAdded()) {
+            shownPersons.addAll(from, change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Applies {@code change} of the address book to the matches of the current search shown.
+     * Returns false if the matches must be looked up again instead, as a person that was not shown is edited into a
+     * match, persons are added anywhere but at the end of the address book so their place among the matches is not
+     * known, or more than one person is replaced or removed at once.
+     */
+    private boolean applySearchChange(ListChangeListener.Change<? extends Person> change) {
+        if (change.wasReplaced()) {
+            if (change.getRemovedSize() != 1 || change.getAddedSize() != 1) {
+                return false;
+            }
+            Person editedPerson = change.getAddedSubList().get(0);
+            int index = indexOfShown(change.getRemoved().get(0));
+            boolean isMatch = search.predicate().test(editedPerson);
+            if (index != -1 && isMatch) {
+                shownPersons.set(index, editedPerson);
+            } else if (index != -1) {
+                shownPersons.remove(index);
+            }
+            return index != -1 || !isMatch;
+        }
+
+        if (change.wasRemoved()) {
+            if (change.getRemovedSize() != 1) {
+                return false;
+            }
+            int index = indexOfShown(change.getRemoved().get(0));
+            if (index != -1) {
+                shownPersons.remove(index);
+            }
+        }
+        if (change.wasAdded()) {
+            if (change.getTo() != change.getList().size()) {
+                return false;
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (search.predicate().test(added)) {
+                    shownPersons.add(added);
+                }
+            }
+        }
+        return true;
+    }
+
+    private int indexOfShown(Person person) {
+        for (int i = 0; i < shownPersons.size(); i++) {
+            if (shownPersons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<NoteMatch> getNoteMatches(Person person, NoteContainsPhrasePredicate predicate) {
+        requireAllNonNull(person, predicate);
+        return addressBook.getNoteMatches(person, predicate);
     }
 
     @Override
@@ -171,7 +399,18 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
+    }
+
+    /**
+     * A search of the address book, as a test of whether a single person matches it, a way to look up all of its
+     * matches, and the order to show them in. If the order is null, the matches are shown in the order of the address
+     * book, so they must be looked up in that order.
+     */
+    private record Search(Predicate<Person> predicate, Supplier<List<Person>> findMatches, Comparator<Person> order) {
+        boolean showsAll() {
+            return predicate == PREDICATE_SHOW_ALL_PERSONS;
+        }
     }
 
 }
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons matched by a ranked name search, as a predicate for testing a single person and a comparator for
+ * ordering them from the closest match to the furthest.
+ *
+ * The persons in the address book that match, and their costs, are found through a {@code NameSearchCache} by
+ * {@link #findMatches()}. The cost of any other person, such as a person added to the address book afterwards, is
+ * computed from their name instead, so that the ranking remains accurate as the address book is modified.
+ */
+class NameMatchRanking implements Predicate<Person>, Comparator<Person> {
+    private final NameSearchCache nameSearches;
+    private final NameContainsKeywordsPredicate predicate;
+    private Map<Person, Integer> matchCosts = Map.of();
+
+    /**
+     * Creates a ranking of the persons whose name matches {@code predicate}, in the address book searched by
+     * {@code nameSearches}.
+     */
+    NameMatchRanking(NameSearchCache nameSearches, NameContainsKeywordsPredicate predicate) {
+        this.nameSearches = nameSearches;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Finds the persons in the address book whose name matches the search, and their costs.
+     * Returns the persons in the order of the address book.
+     */
+    List<Person> findMatches() {
+        NameSearchCache.Matches matches = nameSearches.find(predicate);
+        matchCosts = matches.costs();
+        return matches.persons();
+    }
+
+    private int getCost(Person person) {
+        Integer cost = matchCosts.get(person);
+        return cost != null ? cost : predicate.getMatchCost(person);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getCost(person) != NameMatchMode.NO_MATCH;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Integer.compare(getCost(first), getCost(second));
+    }
+}
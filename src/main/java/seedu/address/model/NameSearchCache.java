@@ -0,0 +1,144 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the persons matched by recent name searches of an {@code AddressBook}, so that repeating a search does not
+ * look it up again, and narrowing a search only tests the persons that it matched.
+ *
+ * A search matches the persons with a name word matched by any of its keywords. A search therefore matches a subset of
+ * the persons matched by an earlier search in the same mode if each of its keywords only matches words that a keyword
+ * of the earlier search matches: in {@code EXACT} mode, if the keyword is one of the earlier keywords, and in
+ * {@code PREFIX} mode, if it starts with one of them. For example, a prefix search for "alice" or "alix" only tests
+ * the persons matched by a prefix search for "ali". No such relation holds between fuzzy searches.
+ * The matches of the {@value #MAX_ENTRIES} most recently used searches are kept until {@link #clear()} is called,
+ * which must be done whenever the address book is modified.
+ */
+class NameSearchCache {
+
+    static final int MAX_ENTRIES = 16;
+
+    private final AddressBook addressBook;
+    private final Map<Key, Matches> matchesBySearch = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Matches> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Creates an empty {@code NameSearchCache} of the searches of {@code addressBook}.
+     */
+    NameSearchCache(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the persons in the address book whose name matches {@code predicate}.
+     */
+    Matches find(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Key key = Key.of(predicate);
+        Matches matches = matchesBySearch.get(key);
+        if (matches == null) {
+            Matches earlierMatches = findNarrowestMatchesRefinedBy(key);
+            matches = earlierMatches == null ? lookUp(predicate) : refine(earlierMatches, predicate);
+            matchesBySearch.put(key, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Forgets the matches of every search.
+     */
+    void clear() {
+        matchesBySearch.clear();
+    }
+
+    /**
+     * Returns the fewest matches of an earlier search that {@code key} narrows, or null if it narrows none.
+     */
+    private Matches findNarrowestMatchesRefinedBy(Key key) {
+        Matches narrowest = null;
+        for (Map.Entry<Key, Matches> entry : matchesBySearch.entrySet()) {
+            Matches matches = entry.getValue();
+            if (key.narrows(entry.getKey())
+                    && (narrowest == null || matches.persons().size() < narrowest.persons().size())) {
+                narrowest = matches;
+            }
+        }
+        return narrowest;
+    }
+
+    private Matches lookUp(NameContainsKeywordsPredicate predicate) {
+        if (predicate.getMode() == NameMatchMode.EXACT) {
+            return new Matches(addressBook.getPersonsWithNameContainingAnyOf(predicate.getKeywords()), Map.of());
+        }
+        Map<Person, Integer> costs = addressBook.getNameMatchCosts(predicate.getKeywords(), predicate.getMode());
+        return new Matches(addressBook.inListOrder(costs.keySet()), costs);
+    }
+
+    /**
+     * Returns the persons among {@code earlierMatches}, the matches of a search that {@code predicate} narrows, whose
+     * name matches {@code predicate}.
+     */
+    private Matches refine(Matches earlierMatches, NameContainsKeywordsPredicate predicate) {
+        if (predicate.getMode() == NameMatchMode.EXACT) {
+            Predicate<Person> namePredicate = addressBook.nameContainsAnyOf(predicate.getKeywords());
+            return new Matches(earlierMatches.persons().stream().filter(namePredicate).toList(), Map.of());
+        }
+
+        Map<Person, Integer> costs = new IdentityHashMap<>();
+        for (Person person : earlierMatches.persons()) {
+            int cost = predicate.getMatchCost(person);
+            if (cost != NameMatchMode.NO_MATCH) {
+                costs.put(person, cost);
+            }
+        }
+        return new Matches(earlierMatches.persons().stream().filter(costs::containsKey).toList(), costs);
+    }
+
+    /**
+     * The persons matched by a name search, in the order of the address book, with the cost of matching each of them
+     * unless the search is in {@code EXACT} mode.
+     */
+    record Matches(List<Person> persons, Map<Person, Integer> costs) {}
+
+    /**
+     * A name search, as its mode and its keywords in the form in which they are compared with the words of names.
+     */
+    private record Key(NameMatchMode mode, Set<String> keywords) {
+        static Key of(NameContainsKeywordsPredicate predicate) {
+            return new Key(predicate.getMode(), predicate.getKeywords().stream()
+                    .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet()));
+        }
+
+        /**
+         * Returns true if this search only matches persons that {@code earlier} matches.
+         */
+        boolean narrows(Key earlier) {
+            if (mode != earlier.mode || mode == NameMatchMode.FUZZY) {
+                return false;
+            }
+            return keywords.stream().allMatch(keyword -> earlier.keywords.stream()
+                    .anyMatch(earlierKeyword -> mode == NameMatchMode.EXACT
+                            ? keyword.equals(earlierKeyword)
+                            : keyword.startsWith(earlierKeyword)));
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +21,9 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final int MAX_INTERNED = 16384;
+    private static final WeakInterner<Address> INTERNER = new WeakInterner<>(MAX_INTERNED);
+
     public final String value;
 
     /**
@@ -31,11 +37,21 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} for {@code address}, sharing the instance of an equal address already in use where
+     * possible, as patients in the same household have the same address.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isSingleLineNotStartingWithWhitespace(test);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -19,8 +20,11 @@ public class Appointment {
     public static final String MESSAGE_CONSTRAINTS = "Date and time should be in the format dd-MM-yyyy HH:mm";
     public static final String MESSAGE_PAST_APPOINTMENT = "Appointment must be set in the future.";
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    /** How long an appointment is taken to last when checking appointments for overlaps. */
+    public static final Duration SLOT_LENGTH = Duration.ofMinutes(30);
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     private final LocalDate date;
     private final LocalTime time;
@@ -61,6 +65,18 @@ public class Appointment {
         }
     }
 
+    public LocalDateTime getDateTime() {
+        return LocalDateTime.of(date, time);
+    }
+
+    /**
+     * Returns true if this appointment and {@code other} overlap, taking both to last {@link #SLOT_LENGTH}.
+     */
+    public boolean overlaps(Appointment other) {
+        requireNonNull(other);
+        return Duration.between(getDateTime(), other.getDateTime()).abs().compareTo(SLOT_LENGTH) < 0;
+    }
+
     @Override
     public String toString() {
         return date.format(DATE_FORMATTER) + " " + time.format(TIME_FORMATTER);
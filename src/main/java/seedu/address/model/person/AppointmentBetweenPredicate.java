@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is a patient with an appointment that starts at or after a given start, and before a
+ * given end.
+ */
+public class AppointmentBetweenPredicate implements Predicate<Person> {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates a predicate that matches the appointments starting in the range from {@code start}, inclusive, to
+     * {@code end}, exclusive.
+     */
+    public AppointmentBetweenPredicate(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!(person instanceof Patient patient) || patient.getAppointment() == null) {
+            return false;
+        }
+        LocalDateTime appointmentStart = patient.getAppointment().getDateTime();
+        return !appointmentStart.isBefore(start) && appointmentStart.isBefore(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentBetweenPredicate)) {
+            return false;
+        }
+
+        AppointmentBetweenPredicate otherPredicate = (AppointmentBetweenPredicate) other;
+        return start.equals(otherPredicate.start) && end.equals(otherPredicate.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
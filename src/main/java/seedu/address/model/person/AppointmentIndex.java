@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of the patients with an appointment, sorted by the start of their appointment.
+ * Patients are tracked by reference, so the index must be updated with the exact instances that are added and removed.
+ */
+class AppointmentIndex {
+
+    private final NavigableMap<LocalDateTime, List<Person>> appointments = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index, if it is a patient with an appointment.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        LocalDateTime start = getStart(person);
+        if (start != null) {
+            appointments.computeIfAbsent(start, key -> new ArrayList<>(1)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is a patient with an appointment.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        LocalDateTime start = getStart(person);
+        if (start == null) {
+            return;
+        }
+
+        List<Person> persons = appointments.get(start);
+        if (persons == null) {
+            return;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                persons.remove(i);
+                break;
+            }
+        }
+        if (persons.isEmpty()) {
+            appointments.remove(start);
+        }
+    }
+
+    void clear() {
+        appointments.clear();
+    }
+
+    /**
+     * Returns the patients with an appointment that starts at or after {@code start} and before {@code end}, in order
+     * of the start of their appointment.
+     */
+    List<Person> getPersonsBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+        return flatten(appointments.subMap(start, true, end, false).values());
+    }
+
+    /**
+     * Returns the patients with an appointment that overlaps {@code appointment}, in order of the start of their
+     * appointment.
+     *
+     * @see Appointment#overlaps(Appointment)
+     */
+    List<Person> getPersonsOverlapping(Appointment appointment) {
+        LocalDateTime start = appointment.getDateTime();
+        return flatten(appointments.subMap(start.minus(Appointment.SLOT_LENGTH), false,
+                start.plus(Appointment.SLOT_LENGTH), false).values());
+    }
+
+    private static List<Person> flatten(Collection<List<Person>> personLists) {
+        List<Person> persons = new ArrayList<>();
+        personLists.forEach(persons::addAll);
+        return persons;
+    }
+
+    private static LocalDateTime getStart(Person person) {
+        if (!(person instanceof Patient patient) || patient.getAppointment() == null) {
+            return null;
+        }
+        return patient.getAppointment().getDateTime();
+    }
+}
@@ -33,37 +33,88 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-        final String trimmedName = name.trim();
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = toTitleCase(trimmedName).trim();
+        fullName = toTitleCase(name);
     }
 
+    /**
+     * Returns {@code s} with its words capitalized and lower-cased otherwise, separated by single spaces and without
+     * leading or trailing spaces. {@code s} must be a valid name.
+     * Returns {@code s} itself if it is already in that form, so that stored names are not copied.
+     */
     private static String toTitleCase(String s) {
-        if (s.isEmpty()) {
+        if (isTitleCase(s)) {
             return s;
         }
-        StringBuilder sb = new StringBuilder();
-        String[] parts = s.toLowerCase().split("\\s+");
-        for (int i = 0; i < parts.length; i++) {
-            String word = parts[i];
-            sb.append(Character.toUpperCase(word.charAt(0)));
-            if (word.length() > 1) {
-                sb.append(word.substring(1));
+
+        char[] chars = new char[s.length()];
+        int length = 0;
+        boolean isWordStart = true;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ' ') {
+                isWordStart = true;
+                continue;
             }
-            sb.append(' ');
+            if (isWordStart && length > 0) {
+                chars[length++] = ' ';
+            }
+            chars[length++] = isWordStart ? toUpperCase(c) : toLowerCase(c);
+            isWordStart = false;
         }
-        return sb.toString();
+        return new String(chars, 0, length);
     }
 
+    /**
+     * Returns true if {@code s} is already in the form returned by {@link #toTitleCase(String)}.
+     */
+    private static boolean isTitleCase(String s) {
+        boolean isWordStart = true;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ' ') {
+                if (isWordStart) {
+                    return false;
+                }
+                isWordStart = true;
+            } else {
+                if (c != (isWordStart ? toUpperCase(c) : toLowerCase(c))) {
+                    return false;
+                }
+                isWordStart = false;
+            }
+        }
+        return !isWordStart;
+    }
 
+    private static char toUpperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c - 'A' + 'a') : c;
+    }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // equivalent to test.matches(VALIDATION_REGEX), without compiling the regex
+        if (test.isEmpty() || !isAsciiLetterOrDigit(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiLetterOrDigit(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
 
     @Override
     public String toString() {
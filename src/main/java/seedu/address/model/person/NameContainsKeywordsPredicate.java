@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -7,21 +8,66 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} matches any of the keywords given, in the {@code NameMatchMode} given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final NameMatchMode mode;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, NameMatchMode.EXACT);
+    }
+
+    /**
+     * Constructs a predicate that matches names with {@code keywords} in {@code mode}.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, NameMatchMode mode) {
         this.keywords = keywords;
+        this.mode = mode;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public NameMatchMode getMode() {
+        return mode;
     }
 
     @Override
     public boolean test(Person person) {
+        if (mode != NameMatchMode.EXACT) {
+            return getMatchCost(person) != NameMatchMode.NO_MATCH;
+        }
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns the cost of matching the name of {@code person} with the keywords, which is lower for closer matches:
+     * the sum of the lowest cost at which each keyword matches a word of the name, where a keyword that matches no
+     * word costs more than any keyword that does. Returns {@link NameMatchMode#NO_MATCH} if no keyword matches.
+     */
+    public int getMatchCost(Person person) {
+        List<String> tokens = keywords.stream().map(NameTokenIndex::toToken).distinct().toList();
+        String[] words = Arrays.stream(person.getName().fullName.split("\\s+"))
+                .map(NameTokenIndex::toToken)
+                .toArray(String[]::new);
+
+        int[] keywordCosts = new int[tokens.size()];
+        for (int i = 0; i < keywordCosts.length; i++) {
+            keywordCosts[i] = NameMatchMode.NO_MATCH;
+            for (String word : words) {
+                int cost = mode.getCost(tokens.get(i), word);
+                if (cost != NameMatchMode.NO_MATCH
+                        && (keywordCosts[i] == NameMatchMode.NO_MATCH || cost < keywordCosts[i])) {
+                    keywordCosts[i] = cost;
+                }
+            }
+        }
+        return NameMatchMode.getTotalCost(keywordCosts);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,11 +80,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && mode == otherNameContainsKeywordsPredicate.mode;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("mode", mode).toString();
     }
 }
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * How the keywords of a name search are matched with the words of names. Matching ignores case.
+ *
+ * Every match has a cost, which is 0 for a word equal to the keyword and grows as the word gets further from the
+ * keyword, so that the persons found by a search can be ranked.
+ */
+public enum NameMatchMode {
+    /** A keyword matches a word equal to it. */
+    EXACT,
+    /** A keyword matches the words that start with it, at a cost of the number of characters that follow it. */
+    PREFIX,
+    /** A keyword matches the words within a few typing mistakes of it, at a cost of their edit distance. */
+    FUZZY;
+
+    public static final String MESSAGE_CONSTRAINTS = "Search mode should be one of exact, prefix or fuzzy.";
+
+    /** The cost returned when a keyword does not match a word, or no keyword matches a name. */
+    public static final int NO_MATCH = -1;
+
+    /** The cost of a keyword that matches no word of a name, which outweighs the cost of any keyword that does. */
+    static final int MISSED_KEYWORD_COST = 1 << 16;
+
+    /**
+     * Returns true if {@code test} names a mode, ignoring case.
+     */
+    public static boolean isValidMode(String test) {
+        requireNonNull(test);
+        for (NameMatchMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the mode named by {@code name}, ignoring case.
+     *
+     * @param name A valid mode name.
+     */
+    public static NameMatchMode of(String name) {
+        requireNonNull(name);
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the most typing mistakes that a word may have to match {@code keyword} in {@link #FUZZY} mode.
+     * Short keywords allow fewer mistakes, as a mistake in them leaves little of the keyword to go by.
+     */
+    static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the cost of matching {@code word} with {@code keyword}, or {@link #NO_MATCH} if they do not match.
+     * Both must be in the form returned by {@code NameTokenIndex#toToken(String)}.
+     */
+    int getCost(String keyword, String word) {
+        switch (this) {
+        case PREFIX:
+            return word.startsWith(keyword) ? word.length() - keyword.length() : NO_MATCH;
+        case FUZZY:
+            int distance = StringUtil.editDistance(keyword, word);
+            return distance <= getMaxEdits(keyword) ? distance : NO_MATCH;
+        case EXACT:
+        default:
+            return word.equals(keyword) ? 0 : NO_MATCH;
+        }
+    }
+
+    /**
+     * Returns the cost of matching a name with keywords, given the lowest cost at which each keyword matches a word of
+     * the name, or {@link #NO_MATCH} if none of the keywords match.
+     */
+    static int getTotalCost(int[] keywordCosts) {
+        int total = 0;
+        boolean isAnyMatched = false;
+        for (int cost : keywordCosts) {
+            if (cost == NO_MATCH) {
+                total += MISSED_KEYWORD_COST;
+            } else {
+                total += cost;
+                isAnyMatched = true;
+            }
+        }
+        return isAnyMatched ? total : NO_MATCH;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An inverted index from the words in the names of persons to the persons whose name contains them.
+ * Words are matched case-insensitively, in the same way as {@code StringUtil#containsWordIgnoreCase}.
+ * Persons are tracked by reference, so the index must be updated with the exact instances that are added and removed.
+ * The words are also kept in a {@code TokenTrie}, to find the words that match a keyword in the other
+ * {@code NameMatchMode}s.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final TokenTrie words = new TokenTrie();
+
+    /**
+     * Returns the form in which {@code word} is stored in the index.
+     */
+    static String toToken(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds {@code person} to the postings of every word of its name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            postings.computeIfAbsent(toToken(word), this::createPostings).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings of every word of its name.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            String token = toToken(word);
+            Set<Person> persons = postings.get(token);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(token);
+                words.remove(token);
+            }
+        }
+    }
+
+    private Set<Person> createPostings(String token) {
+        words.add(token);
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    void clear() {
+        postings.clear();
+        words.clear();
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains {@code token}.
+     * {@code token} must be in the form returned by {@link #toToken(String)}.
+     */
+    boolean contains(String token, Person person) {
+        Set<Person> persons = postings.get(token);
+        return persons != null && persons.contains(person);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code token}.
+     * {@code token} must be in the form returned by {@link #toToken(String)}.
+     */
+    Set<Person> getPersonsWith(String token) {
+        return Collections.unmodifiableSet(postings.getOrDefault(token, Set.of()));
+    }
+
+    /**
+     * Returns the cost of matching the name of every person whose name matches any of {@code keywords} in
+     * {@code mode}, which is the same as {@link NameContainsKeywordsPredicate#getMatchCost(Person)} returns for them.
+     * Persons are keyed by reference.
+     */
+    Map<Person, Integer> getMatchCosts(Collection<String> keywords, NameMatchMode mode) {
+        requireNonNull(mode);
+        List<String> tokens = keywords.stream().map(NameTokenIndex::toToken).distinct().toList();
+        Map<Person, int[]> keywordCostsByPerson = new IdentityHashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            int keywordIndex = i;
+            ObjIntConsumer<String> addMatch = (word, cost) -> {
+                for (Person person : postings.get(word)) {
+                    int[] keywordCosts = keywordCostsByPerson.computeIfAbsent(person, p -> newKeywordCosts(tokens));
+                    if (keywordCosts[keywordIndex] == NameMatchMode.NO_MATCH || cost < keywordCosts[keywordIndex]) {
+                        keywordCosts[keywordIndex] = cost;
+                    }
+                }
+            };
+            forEachMatchingWord(tokens.get(i), mode, addMatch);
+        }
+
+        Map<Person, Integer> matchCosts = new IdentityHashMap<>(keywordCostsByPerson.size());
+        keywordCostsByPerson.forEach((person, keywordCosts) ->
+                matchCosts.put(person, NameMatchMode.getTotalCost(keywordCosts)));
+        return matchCosts;
+    }
+
+    private static int[] newKeywordCosts(List<String> tokens) {
+        int[] keywordCosts = new int[tokens.size()];
+        Arrays.fill(keywordCosts, NameMatchMode.NO_MATCH);
+        return keywordCosts;
+    }
+
+    /**
+     * Passes every word in the index that matches {@code token} in {@code mode} to {@code action}, along with the cost
+     * of the match.
+     */
+    private void forEachMatchingWord(String token, NameMatchMode mode, ObjIntConsumer<String> action) {
+        switch (mode) {
+        case PREFIX:
+            words.forEachWithPrefix(token, action);
+            break;
+        case FUZZY:
+            words.forEachWithinDistance(token, NameMatchMode.getMaxEdits(token), action);
+            break;
+        case EXACT:
+        default:
+            if (postings.containsKey(token)) {
+                action.accept(token, 0);
+            }
+            break;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's note in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -19,6 +22,9 @@ public class Note {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final int MAX_INTERNED = 16384;
+    private static final WeakInterner<Note> INTERNER = new WeakInterner<>(MAX_INTERNED);
+
     public final String value;
 
     /**
@@ -32,11 +38,21 @@ public class Note {
         value = note;
     }
 
+    /**
+     * Returns a {@code Note} for {@code note}, sharing the instance of an equal note already in use where possible,
+     * as the same note is often recorded for many patients.
+     *
+     * @param note A valid note.
+     */
+    public static Note of(String note) {
+        return INTERNER.intern(new Note(note));
+    }
+
     /**
      * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return test.length() <= MAX_LENGTH && StringUtil.isSingleLineNotStartingWithWhitespace(test);
     }
 
     @Override
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Patient} has a {@code Note} containing the phrase given, ignoring case.
+ * The words of the phrase must occur in the same order in the note, and common words such as "the" are skipped over,
+ * so "shortness of breath" also matches "shortness in breath". Punctuation between the words is ignored.
+ */
+public class NoteContainsPhrasePredicate implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Search words should contain letters or digits, "
+            + "and should not only be common words such as 'the' or 'of'";
+
+    private final String phrase;
+    private final List<NoteTextIndex.Term> terms;
+
+    /**
+     * Constructs a predicate that matches the notes containing {@code phrase}.
+     *
+     * @param phrase A valid phrase.
+     */
+    public NoteContainsPhrasePredicate(String phrase) {
+        requireNonNull(phrase);
+        checkArgument(isValidPhrase(phrase), MESSAGE_CONSTRAINTS);
+        this.phrase = phrase;
+        this.terms = NoteTextIndex.tokenize(phrase);
+    }
+
+    /**
+     * Returns true if {@code test} contains a word that is searched for, which is any word other than a stopword.
+     */
+    public static boolean isValidPhrase(String test) {
+        return !NoteTextIndex.tokenize(test).isEmpty();
+    }
+
+    public String getPhrase() {
+        return phrase;
+    }
+
+    /**
+     * Returns the words of the phrase that are searched for, with their positions in the phrase.
+     */
+    List<NoteTextIndex.Term> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !getMatches(person).isEmpty();
+    }
+
+    /**
+     * Returns the occurrences of the phrase in the notes of {@code person}, in order of note and then position,
+     * by scanning every note of {@code person}.
+     */
+    public List<NoteMatch> getMatches(Person person) {
+        List<NoteMatch> matches = new ArrayList<>();
+        if (!(person instanceof Patient patient)) {
+            return matches;
+        }
+        List<Note> notes = patient.getNotes();
+        for (int i = 0; i < notes.size(); i++) {
+            matches.addAll(NoteTextIndex.findPhrase(i, NoteTextIndex.tokenize(notes.get(i).value), terms));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsPhrasePredicate)) {
+            return false;
+        }
+
+        NoteContainsPhrasePredicate otherNoteContainsPhrasePredicate = (NoteContainsPhrasePredicate) other;
+        return phrase.equals(otherNoteContainsPhrasePredicate.phrase);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phrase", phrase).toString();
+    }
+}
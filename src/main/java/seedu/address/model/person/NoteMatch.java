@@ -0,0 +1,8 @@
+package seedu.address.model.person;
+
+/**
+ * An occurrence of a search phrase in a note of a patient: the index of the note in the notes of the patient, and the
+ * range of characters of the note that the phrase spans, from {@code start} (inclusive) to {@code end} (exclusive).
+ */
+public record NoteMatch(int noteIndex, int start, int end) {
+}
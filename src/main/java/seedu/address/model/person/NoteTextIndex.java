@@ -0,0 +1,225 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A positional inverted index from the words in the notes of patients to where they occur in them.
+ *
+ * Notes are split into words, which are runs of letters and digits compared ignoring case. Common words such as
+ * "the" are left out of the index, but still count towards the positions of the words after them, so that a phrase
+ * can be found by looking for its words at the same distances from each other as in the phrase.
+ * Patients are tracked by reference, so the index must be updated with the exact instances that are added and removed.
+ */
+class NoteTextIndex {
+
+    /** Words too common in notes to be worth indexing or searching for. */
+    static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "had", "has", "have", "he", "her",
+            "his", "i", "if", "in", "into", "is", "it", "its", "no", "not", "of", "on", "or", "she", "so", "that",
+            "the", "their", "them", "then", "there", "they", "this", "to", "was", "were", "will", "with");
+
+    private static final Comparator<Occurrence> BY_POSITION =
+            Comparator.comparingInt(Occurrence::noteIndex).thenComparingInt(Occurrence::position);
+
+    private final Map<String, Map<Person, List<Occurrence>>> postings = new HashMap<>();
+
+    /**
+     * Returns the words of {@code text} that are not stopwords, in order, along with their positions among all the
+     * words of {@code text}.
+     */
+    static List<Term> tokenize(String text) {
+        requireNonNull(text);
+        List<Term> terms = new ArrayList<>();
+        int position = 0;
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+            if (!STOPWORDS.contains(word)) {
+                terms.add(new Term(word, position, start, i));
+            }
+            position++;
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the occurrences of {@code phrase} in {@code noteTerms}, the terms of the note at {@code noteIndex}.
+     * Notes are matched by scanning them, without the index.
+     */
+    static List<NoteMatch> findPhrase(int noteIndex, List<Term> noteTerms, List<Term> phrase) {
+        List<NoteMatch> matches = new ArrayList<>();
+        if (phrase.isEmpty()) {
+            return matches;
+        }
+        Map<Integer, Term> termsByPosition = new HashMap<>();
+        noteTerms.forEach(term -> termsByPosition.put(term.position(), term));
+
+        Term first = phrase.get(0);
+        for (Term candidate : noteTerms) {
+            if (!candidate.word().equals(first.word())) {
+                continue;
+            }
+            Term last = candidate;
+            for (int i = 1; i < phrase.size() && last != null; i++) {
+                Term term = termsByPosition.get(candidate.position() + phrase.get(i).position() - first.position());
+                last = term != null && term.word().equals(phrase.get(i).word()) ? term : null;
+            }
+            if (last != null) {
+                matches.add(new NoteMatch(noteIndex, candidate.start(), last.end()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the words of the notes of {@code person} to the index, if it is a patient.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Patient patient)) {
+            return;
+        }
+        List<Note> notes = patient.getNotes();
+        for (int noteIndex = 0; noteIndex < notes.size(); noteIndex++) {
+            for (Term term : tokenize(notes.get(noteIndex).value)) {
+                postings.computeIfAbsent(term.word(), word -> new IdentityHashMap<>())
+                        .computeIfAbsent(person, p -> new ArrayList<>())
+                        .add(new Occurrence(noteIndex, term.position(), term.start(), term.end()));
+            }
+        }
+    }
+
+    /**
+     * Removes the words of the notes of {@code person} from the index, if it is a patient.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Patient patient)) {
+            return;
+        }
+        for (Note note : patient.getNotes()) {
+            for (Term term : tokenize(note.value)) {
+                Map<Person, List<Occurrence>> persons = postings.get(term.word());
+                if (persons != null && persons.remove(person) != null && persons.isEmpty()) {
+                    postings.remove(term.word());
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the patients with {@code phrase} in their notes. Only the patients with the word of {@code phrase} that
+     * occurs in the notes of the fewest patients are looked at.
+     */
+    List<Person> findPatientsWith(List<Term> phrase) {
+        requireNonNull(phrase);
+        Map<Person, List<Occurrence>> candidates = null;
+        for (Term term : phrase) {
+            Map<Person, List<Occurrence>> persons = postings.getOrDefault(term.word(), Map.of());
+            if (candidates == null || persons.size() < candidates.size()) {
+                candidates = persons;
+            }
+        }
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
+
+        List<Person> matches = new ArrayList<>();
+        for (Person person : candidates.keySet()) {
+            if (!findPhrase(person, phrase).isEmpty()) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the occurrences of {@code phrase} in the notes of {@code person}, in order of note and then position.
+     * Only the postings of {@code person} are looked at, starting from those of the word of {@code phrase} that
+     * occurs the least often in their notes.
+     */
+    List<NoteMatch> findPhrase(Person person, List<Term> phrase) {
+        requireNonNull(person);
+        if (phrase.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<Occurrence>> occurrences = new ArrayList<>(phrase.size());
+        int rarest = 0;
+        for (int i = 0; i < phrase.size(); i++) {
+            List<Occurrence> termOccurrences = postings.getOrDefault(phrase.get(i).word(), Map.of()).get(person);
+            if (termOccurrences == null) {
+                return Collections.emptyList();
+            }
+            occurrences.add(termOccurrences);
+            if (termOccurrences.size() < occurrences.get(rarest).size()) {
+                rarest = i;
+            }
+        }
+
+        List<NoteMatch> matches = new ArrayList<>();
+        for (Occurrence anchor : occurrences.get(rarest)) {
+            int firstPosition = anchor.position() - (phrase.get(rarest).position() - phrase.get(0).position());
+            Occurrence first = null;
+            Occurrence last = null;
+            for (int i = 0; i < phrase.size(); i++) {
+                int position = firstPosition + phrase.get(i).position() - phrase.get(0).position();
+                Occurrence occurrence = find(occurrences.get(i), anchor.noteIndex(), position);
+                if (occurrence == null) {
+                    first = null;
+                    break;
+                }
+                first = first == null ? occurrence : first;
+                last = occurrence;
+            }
+            if (first != null) {
+                matches.add(new NoteMatch(anchor.noteIndex(), first.start(), last.end()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the occurrence at {@code position} of the note at {@code noteIndex} in {@code occurrences}, which are
+     * in order of note and then position, or null if there is none.
+     */
+    private static Occurrence find(List<Occurrence> occurrences, int noteIndex, int position) {
+        int index = Collections.binarySearch(occurrences, new Occurrence(noteIndex, position, 0, 0), BY_POSITION);
+        return index >= 0 ? occurrences.get(index) : null;
+    }
+
+    /**
+     * A word of a text that is not a stopword, its position among all the words of the text, and the range of
+     * characters of the text that it spans.
+     */
+    record Term(String word, int position, int start, int end) {
+    }
+
+    /**
+     * An occurrence of a word in the notes of a patient.
+     */
+    private record Occurrence(int noteIndex, int position, int start, int end) {
+    }
+}
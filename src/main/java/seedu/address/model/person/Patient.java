@@ -2,12 +2,11 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -18,7 +17,7 @@ import seedu.address.model.tag.Tag;
  */
 public class Patient extends Person {
 
-    private final List<Note> notes;
+    private final PersistentList<Note> notes;
     private final Appointment appointment;
     private final Tag tag;
 
@@ -27,7 +26,7 @@ public class Patient extends Person {
      */
     public Patient(Name name, Phone phone, Address address, Tag tag) {
         super(name, phone, address);
-        this.notes = new ArrayList<>();
+        this.notes = PersistentList.empty();
         this.appointment = null;
         this.tag = tag;
     }
@@ -38,10 +37,7 @@ public class Patient extends Person {
     public Patient(Name name, Phone phone, Address address, Tag tag, Note note) {
         super(name, phone, address);
         requireAllNonNull(note);
-        this.notes = new ArrayList<>();
-        if (!note.value.equals("NIL")) {
-            this.notes.add(note);
-        }
+        this.notes = note.value.equals("NIL") ? PersistentList.empty() : PersistentList.<Note>empty().with(note);
         this.appointment = null;
         this.tag = tag;
     }
@@ -52,17 +48,15 @@ public class Patient extends Person {
     public Patient(Name name, Phone phone, Address address, Tag tag, Note note, Appointment appointment) {
         super(name, phone, address);
         requireAllNonNull(note);
-        this.notes = new ArrayList<>();
-        if (!note.value.equals("NIL")) {
-            this.notes.add(note);
-        }
+        this.notes = note.value.equals("NIL") ? PersistentList.empty() : PersistentList.<Note>empty().with(note);
         this.appointment = appointment;
         this.tag = tag;
     }
 
     /**
      * Constructs a Patient with multiple notes but no appointment.
-     * Creates a defensive copy of the provided notes list to ensure immutability.
+     * Creates a defensive copy of the provided notes list to ensure immutability, unless it is already a
+     * {@link PersistentList}, which cannot be modified.
      *
      * @param name the patient's name, must not be null
      * @param phone the patient's phone number, must not be null
@@ -72,15 +66,15 @@ public class Patient extends Person {
      */
     public Patient(Name name, Phone phone, Address address, Tag tag, List<Note> notes) {
         super(name, phone, address);
-        requireAllNonNull(notes);
-        this.notes = new ArrayList<>(notes);
+        this.notes = PersistentList.copyOf(notes);
         this.appointment = null;
         this.tag = tag;
     }
 
     /**
      * Constructs a Patient with multiple notes and an appointment.
-     * Creates a defensive copy of the provided notes list to ensure immutability.
+     * Creates a defensive copy of the provided notes list to ensure immutability, unless it is already a
+     * {@link PersistentList}, which cannot be modified.
      * This is the most comprehensive constructor supporting all patient data fields.
      *
      * @param name the patient's name, must not be null
@@ -93,8 +87,7 @@ public class Patient extends Person {
      */
     public Patient(Name name, Phone phone, Address address, Tag tag, List<Note> notes, Appointment appointment) {
         super(name, phone, address);
-        requireAllNonNull(notes);
-        this.notes = new ArrayList<>(notes);
+        this.notes = PersistentList.copyOf(notes);
         this.appointment = appointment;
         this.tag = tag;
     }
@@ -105,7 +98,7 @@ public class Patient extends Person {
      * @return the notes of the patient.
      */
     public List<Note> getNotes() {
-        return Collections.unmodifiableList(notes);
+        return notes;
     }
 
     /**
@@ -139,15 +132,14 @@ public class Patient extends Person {
 
     /**
      * Adds a note to this patient.
+     * The notes of this patient are shared with the new patient rather than copied.
      * @param note the note to add
      * @return a new Patient with the note added
      */
     public Patient addNote(Note note) {
         requireAllNonNull(note);
-        List<Note> newNotes = new ArrayList<>(this.notes);
-        newNotes.add(note);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), newNotes, this.appointment);
+                this.getTag().orElse(null), this.notes.with(note), this.appointment);
     }
 
     /**
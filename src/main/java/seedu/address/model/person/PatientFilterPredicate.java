@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} matches every criterion given: a tag among the given tags, a name containing any of
+ * the given keywords, and an appointment on the given date. A criterion that is not given matches every person.
+ */
+public class PatientFilterPredicate implements Predicate<Person> {
+    private final Set<Tag> tags;
+    private final List<String> keywords;
+    private final LocalDate date;
+    private final NameContainsKeywordsPredicate namePredicate;
+
+    /**
+     * Constructs a predicate that matches the persons with any of {@code tags}, a name containing any of
+     * {@code keywords}, and an appointment on {@code date}, for the criteria that are not empty.
+     */
+    public PatientFilterPredicate(Set<Tag> tags, List<String> keywords, Optional<LocalDate> date) {
+        requireAllNonNull(tags, keywords, date);
+        this.tags = Set.copyOf(tags);
+        this.keywords = List.copyOf(keywords);
+        this.date = date.orElse(null);
+        this.namePredicate = new NameContainsKeywordsPredicate(this.keywords);
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public Optional<LocalDate> getDate() {
+        return Optional.ofNullable(date);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!keywords.isEmpty() && !namePredicate.test(person)) {
+            return false;
+        }
+        if (tags.isEmpty() && date == null) {
+            return true;
+        }
+        if (!(person instanceof Patient patient)) {
+            return false;
+        }
+        if (!tags.isEmpty() && patient.getTag().filter(tags::contains).isEmpty()) {
+            return false;
+        }
+        if (date == null) {
+            return true;
+        }
+        Appointment appointment = patient.getAppointment();
+        if (appointment == null) {
+            return false;
+        }
+        LocalDateTime start = appointment.getDateTime();
+        return !start.isBefore(date.atStartOfDay()) && start.isBefore(date.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientFilterPredicate)) {
+            return false;
+        }
+
+        PatientFilterPredicate otherPatientFilterPredicate = (PatientFilterPredicate) other;
+        return tags.equals(otherPatientFilterPredicate.tags)
+                && keywords.equals(otherPatientFilterPredicate.keywords)
+                && getDate().equals(otherPatientFilterPredicate.getDate());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("keywords", keywords)
+                .add("date", date)
+                .toString();
+    }
+}
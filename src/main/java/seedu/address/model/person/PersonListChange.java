@@ -0,0 +1,30 @@
+package seedu.address.model.person;
+
+/**
+ * A modification of a {@code UniquePersonList} at a single position, which replaces {@code removed} at
+ * {@code index} with {@code added}.
+ * An addition has no {@code removed} person, and a removal has no {@code added} person.
+ */
+public record PersonListChange(int index, Person removed, Person added) {
+
+    /**
+     * Returns the addition of {@code added} at {@code index}.
+     */
+    public static PersonListChange added(int index, Person added) {
+        return new PersonListChange(index, null, added);
+    }
+
+    /**
+     * Returns the removal of {@code removed} from {@code index}.
+     */
+    public static PersonListChange removed(int index, Person removed) {
+        return new PersonListChange(index, removed, null);
+    }
+
+    /**
+     * Returns the replacement of {@code removed} at {@code index} with {@code added}.
+     */
+    public static PersonListChange replaced(int index, Person removed, Person added) {
+        return new PersonListChange(index, removed, added);
+    }
+}
@@ -18,6 +18,8 @@ public class Phone {
             "Phone numbers cannot be blank";
     public static final String LENGTH_CONSTRAINTS = "Phone numbers must be between 3 and 15 digits. ";
     public static final String VALIDATION_REGEX = "\\d{3,15}";
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 15;
     public final String value;
 
     /**
@@ -35,7 +37,18 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // equivalent to test.matches(VALIDATION_REGEX), without compiling the regex
+        int length = test.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the patients with each tag, as a bitmap per tag over slots that are given out to the persons in the
+ * index. The slot of a removed person is given to the next person added, so the bitmaps stay about as long as the
+ * number of persons, and bitmaps of other matches can be built over the same slots to be combined with bitwise
+ * operations.
+ * Persons are tracked by reference, so the index must be updated with the exact instances that are added and removed.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    /** The person in each slot, or null for a free slot. */
+    private final List<Person> persons = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Map<Tag, BitSet> bitmaps = new HashMap<>();
+
+    /**
+     * Gives {@code person} the lowest free slot, and sets it in the bitmap of its tag, if it is a patient with one.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        slots.put(person, slot);
+        if (slot == persons.size()) {
+            persons.add(person);
+        } else {
+            persons.set(slot, person);
+        }
+        getTag(person).ifPresent(tag -> bitmaps.computeIfAbsent(tag, t -> new BitSet()).set(slot));
+    }
+
+    /**
+     * Frees the slot of {@code person}, and clears it in the bitmap of its tag.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        usedSlots.clear(slot);
+        persons.set(slot, null);
+        getTag(person).map(bitmaps::get).ifPresent(bitmap -> bitmap.clear(slot));
+    }
+
+    void clear() {
+        slots.clear();
+        persons.clear();
+        usedSlots.clear();
+        bitmaps.clear();
+    }
+
+    /**
+     * Returns a new bitmap of the slots of every person in the index.
+     */
+    BitSet getAll() {
+        return (BitSet) usedSlots.clone();
+    }
+
+    /**
+     * Returns a new bitmap of the slots of the patients with any of {@code tags}.
+     */
+    BitSet getWithAnyOf(Collection<Tag> tags) {
+        BitSet matches = new BitSet();
+        for (Tag tag : tags) {
+            BitSet bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                matches.or(bitmap);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a new bitmap of the slots of {@code persons}, leaving out those that are not in the index.
+     */
+    BitSet toBitmap(Collection<Person> persons) {
+        BitSet bitmap = new BitSet();
+        for (Person person : persons) {
+            Integer slot = slots.get(person);
+            if (slot != null) {
+                bitmap.set(slot);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns the persons in the slots set in {@code bitmap}, which must have been built from this index, in order of
+     * slot.
+     */
+    List<Person> getPersons(BitSet bitmap) {
+        List<Person> matches = new ArrayList<>(bitmap.cardinality());
+        for (int slot = bitmap.nextSetBit(0); slot >= 0; slot = bitmap.nextSetBit(slot + 1)) {
+            if (slot < persons.size() && persons.get(slot) != null) {
+                matches.add(persons.get(slot));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Sets the slot of {@code person} in {@code bitmap}, which must have been built from this index, to
+     * {@code isSet}. Does nothing if {@code person} is not in the index.
+     */
+    void set(BitSet bitmap, Person person, boolean isSet) {
+        Integer slot = slots.get(person);
+        if (slot != null) {
+            bitmap.set(slot, isSet);
+        }
+    }
+
+    /**
+     * Returns true if the slot of {@code person} is set in {@code bitmap}, which must have been built from this index.
+     */
+    boolean contains(BitSet bitmap, Person person) {
+        Integer slot = slots.get(person);
+        return slot != null && bitmap.get(slot);
+    }
+
+    private static Optional<Tag> getTag(Person person) {
+        return person instanceof Patient patient ? patient.getTag() : Optional.empty();
+    }
+}
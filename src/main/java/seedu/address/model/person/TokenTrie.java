@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A set of words stored as a trie, which finds the words that start with a prefix, or that are within an edit
+ * distance of a word, without comparing the word with every word in the set.
+ *
+ * Words within an edit distance are found by walking the trie while computing the Levenshtein distance between the
+ * word and the path walked so far, one row of the distance table per character of the path, as a Levenshtein
+ * automaton would. A branch is left as soon as every entry of its row exceeds the distance, as no word below it can
+ * be within the distance then, so only the branches near the word are walked.
+ */
+class TokenTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code word} to the set, if it is not in the set already.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+        }
+        node.isWord = true;
+    }
+
+    /**
+     * Removes {@code word} from the set, if it is in the set, along with the nodes that no longer lead to any word.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].children.get(word.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        path[word.length()].isWord = false;
+        for (int i = word.length(); i > 0 && !path[i].isWord && path[i].children.isEmpty(); i--) {
+            path[i - 1].children.remove(word.charAt(i - 1));
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+        root.isWord = false;
+    }
+
+    boolean contains(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node != null && node.isWord;
+    }
+
+    /**
+     * Passes every word in the set that starts with {@code prefix} to {@code action}, along with the number of
+     * characters that the word has after {@code prefix}.
+     */
+    void forEachWithPrefix(String prefix, ObjIntConsumer<String> action) {
+        requireNonNull(prefix);
+        requireNonNull(action);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node != null) {
+            forEachWord(node, new StringBuilder(prefix), prefix.length(), action);
+        }
+    }
+
+    private static void forEachWord(Node node, StringBuilder path, int prefixLength, ObjIntConsumer<String> action) {
+        if (node.isWord) {
+            action.accept(path.toString(), path.length() - prefixLength);
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            path.append(child.getKey());
+            forEachWord(child.getValue(), path, prefixLength, action);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    /**
+     * Passes every word in the set whose Levenshtein distance from {@code word} is at most {@code maxDistance} to
+     * {@code action}, along with that distance.
+     */
+    void forEachWithinDistance(String word, int maxDistance, ObjIntConsumer<String> action) {
+        requireNonNull(word);
+        requireNonNull(action);
+        int[] firstRow = new int[word.length() + 1];
+        for (int i = 0; i <= word.length(); i++) {
+            firstRow[i] = i;
+        }
+        if (root.isWord && firstRow[word.length()] <= maxDistance) {
+            action.accept("", firstRow[word.length()]);
+        }
+        StringBuilder path = new StringBuilder();
+        for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+            path.append(child.getKey());
+            walkWithinDistance(child.getValue(), path, word, firstRow, maxDistance, action);
+            path.setLength(0);
+        }
+    }
+
+    /**
+     * Computes the row of the distance table for the last character of {@code path} from {@code previousRow}, and
+     * walks the children of {@code node} if some word below it may still be within {@code maxDistance}.
+     */
+    private static void walkWithinDistance(Node node, StringBuilder path, String word, int[] previousRow,
+            int maxDistance, ObjIntConsumer<String> action) {
+        char last = path.charAt(path.length() - 1);
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int replaceCost = word.charAt(i - 1) == last ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + replaceCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        if (node.isWord && row[word.length()] <= maxDistance) {
+            action.accept(path.toString(), row[word.length()]);
+        }
+        if (rowMinimum > maxDistance) {
+            return;
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            path.append(child.getKey());
+            walkWithinDistance(child.getValue(), path, word, row, maxDistance, action);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    /**
+     * A node of the trie, for the path of characters leading to it from the root.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean isWord;
+    }
+}
@@ -3,8 +3,27 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +37,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered by a hash index keyed on the identity fields of each person, which is kept in sync
+ * with the backing list by every mutating operation. The words of each name, and the start of each appointment, are
+ * indexed in the same way, so that name searches and appointment queries only look at the persons they match. The
+ * persons with each tag are kept as bitmaps, which filters combine with the persons matched in the other indexes.
+ *
+ * Each person is given a numeric id when it is added to or loaded into the list, which is passed on to the person that
+ * replaces it in an edit, and the position of each id in the backing list is kept in a slot map. Updating or removing
+ * a person that was taken from the list finds it through its id and slot, rather than by comparing it with every
+ * person in the list. Ids only serve these lookups, so they belong to the list in memory rather than to the persons:
+ * they are neither saved nor shown, and are given out afresh when an address book is loaded. When the list is
+ * replaced, as when a batch of commands is rolled back, a person keeps the id of the person with the same identity
+ * that it replaces.
+ *
+ * Every mutating operation also advances the version of the list, and records the modification and how to undo it on
+ * the node of the version it replaced. {@link #snapshot()} holds on to the node of the current version, so taking a
+ * snapshot copies nothing; the persons of a snapshot are only copied, and rebuilt from the current persons and the
+ * recorded undo steps if the list has moved on, when the snapshot is first read. The modifications recorded between
+ * two snapshots are given by {@link #getChangesBetween(List, List)}, so that they can be saved without comparing the
+ * snapshots. Nodes of versions that no snapshot refers to are garbage collected.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,26 +66,42 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Person> identityIndex = new HashMap<>();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final NoteTextIndex noteIndex = new NoteTextIndex();
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    /** The filters returned by {@link #filter(PatientFilterPredicate)} that are still in use. */
+    private final Set<FilterMatches> filters = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Map<Person, Long> ids = new IdentityHashMap<>();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private long nextId;
+
+    private Version currentVersion = new Version(0);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .anyMatch(p -> p.isSamePerson(toCheck) || toCheck.isSamePerson(p));
+        return identityIndex.containsKey(Identity.of(toCheck));
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
-    public void add(Person toAdd) {
+    public synchronized void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        int index = internalList.size();
+        addToIndexes(toAdd);
+        assignId(toAdd, nextId++, index);
         internalList.add(toAdd);
+        identityIndex.put(Identity.of(toAdd), toAdd);
+        advanceVersion(persons -> persons.remove(index), PersonListChange.added(index, toAdd));
     }
 
     /**
@@ -54,10 +109,10 @@ public class UniquePersonList implements Iterable<Person> {
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public synchronized void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,36 +121,64 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPerson);
+        assignId(editedPerson, ids.remove(replaced), index);
         internalList.set(index, editedPerson);
+        identityIndex.remove(Identity.of(target));
+        identityIndex.put(Identity.of(editedPerson), editedPerson);
+        advanceVersion(persons -> persons.set(index, replaced),
+                PersonListChange.replaced(index, replaced, editedPerson));
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public synchronized void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(index);
+        removeFromIndexes(removed);
+        slots.remove(ids.remove(removed));
+        internalList.remove(index);
+        identityIndex.remove(Identity.of(toRemove));
+        advanceVersion(persons -> persons.add(index, removed), PersonListChange.removed(index, removed));
     }
 
-    public void setPersons(UniquePersonList replacement) {
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
+    public synchronized void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        List<Person> replaced = List.copyOf(internalList);
+        reindex(replacement.internalList);
+        reassignIds(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        advanceVersion(persons -> setAll(persons, replaced), null);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
-    public void setPersons(List<Person> persons) {
+    public synchronized void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Identity, Person> replacementIndex = indexByIdentity(persons);
 
+        List<Person> replaced = List.copyOf(internalList);
+        reindex(persons);
+        reassignIds(persons);
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        advanceVersion(restored -> setAll(restored, replaced), null);
     }
 
     /**
@@ -105,6 +188,220 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a predicate that tests if the name of a person in this list contains any of {@code keywords}, ignoring
+     * case. The person is looked up in the name index rather than having its name split and compared, and the
+     * predicate remains accurate as this list is modified.
+     */
+    public Predicate<Person> nameContainsAnyOf(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> tokens = keywords.stream().map(NameTokenIndex::toToken).distinct().toList();
+        return person -> {
+            for (String token : tokens) {
+                if (nameIndex.contains(token, person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the persons in this list whose name contains any of {@code keywords}, ignoring case, in the order in
+     * which they are in this list. The persons are taken from the name index, without looking at the other persons.
+     */
+    public List<Person> getPersonsWithNameContainingAnyOf(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.stream()
+                .map(NameTokenIndex::toToken)
+                .distinct()
+                .forEach(token -> matches.addAll(nameIndex.getPersonsWith(token)));
+        return inListOrder(matches);
+    }
+
+    /**
+     * Returns the cost of matching the name of every person in this list whose name matches any of {@code keywords} in
+     * {@code mode}, as {@link NameContainsKeywordsPredicate#getMatchCost(Person)} would return it. Persons are keyed
+     * by reference. The words of names are looked up in the name index rather than compared with every name.
+     */
+    public Map<Person, Integer> getNameMatchCosts(Collection<String> keywords, NameMatchMode mode) {
+        requireAllNonNull(keywords, mode);
+        return nameIndex.getMatchCosts(keywords, mode);
+    }
+
+    /**
+     * Returns a predicate that tests if a patient in this list has a note containing the phrase of {@code predicate}.
+     * The phrase is looked up in the note index rather than in every note, and the predicate remains accurate as this
+     * list is modified.
+     */
+    public Predicate<Person> notesContain(NoteContainsPhrasePredicate predicate) {
+        requireNonNull(predicate);
+        List<NoteTextIndex.Term> terms = predicate.getTerms();
+        return person -> !noteIndex.findPhrase(person, terms).isEmpty();
+    }
+
+    /**
+     * Returns the patients in this list with a note containing the phrase of {@code predicate}, in the order in which
+     * they are in this list. Only the patients with every word of the phrase in their notes are looked at.
+     */
+    public List<Person> getPersonsWithNotesContaining(NoteContainsPhrasePredicate predicate) {
+        requireNonNull(predicate);
+        return inListOrder(noteIndex.findPatientsWith(predicate.getTerms()));
+    }
+
+    /**
+     * Returns the occurrences of the phrase of {@code predicate} in the notes of {@code person}, who must be in this
+     * list, in order of note and then position. The phrase is looked up in the note index.
+     */
+    public List<NoteMatch> getNoteMatches(Person person, NoteContainsPhrasePredicate predicate) {
+        requireAllNonNull(person, predicate);
+        return noteIndex.findPhrase(person, predicate.getTerms());
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this list matches {@code predicate}. The persons that match are
+     * found by intersecting the bitmaps of their tags with bitmaps of the persons matched in the name and appointment
+     * indexes, rather than by testing every person. The predicate remains accurate as this list is modified, as only
+     * the persons added or removed are tested again.
+     */
+    public Predicate<Person> filter(PatientFilterPredicate predicate) {
+        requireNonNull(predicate);
+        return new FilterMatches(predicate);
+    }
+
+    /**
+     * Returns the persons in this list that match {@code predicate}, in the order in which they are in this list.
+     * The persons are found in the same way as by {@link #filter(PatientFilterPredicate)}.
+     */
+    public List<Person> getPersonsMatching(PatientFilterPredicate predicate) {
+        requireNonNull(predicate);
+        return inListOrder(tagIndex.getPersons(findMatches(predicate)));
+    }
+
+    /**
+     * Returns {@code persons}, which must all be in this list, in the order in which they are in this list.
+     * The position of each person is found through its id and slot, so this takes time in proportion to the number of
+     * {@code persons} rather than to the size of this list.
+     *
+     * @throws PersonNotFoundException if one of {@code persons} is not in this list.
+     */
+    public List<Person> inListOrder(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        int[] positions = new int[persons.size()];
+        int count = 0;
+        for (Person person : persons) {
+            int position = indexOf(person);
+            if (position == -1) {
+                throw new PersonNotFoundException();
+            }
+            positions[count++] = position;
+        }
+        Arrays.sort(positions);
+
+        List<Person> ordered = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            ordered.add(internalList.get(position));
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns a bitmap over the slots of the tag index of the persons in this list that match {@code predicate}.
+     */
+    private BitSet findMatches(PatientFilterPredicate predicate) {
+        BitSet matches = predicate.getTags().isEmpty()
+                ? tagIndex.getAll()
+                : tagIndex.getWithAnyOf(predicate.getTags());
+        if (!predicate.getKeywords().isEmpty()) {
+            BitSet nameMatches = new BitSet();
+            predicate.getKeywords().stream()
+                    .map(NameTokenIndex::toToken)
+                    .distinct()
+                    .forEach(token -> nameMatches.or(tagIndex.toBitmap(nameIndex.getPersonsWith(token))));
+            matches.and(nameMatches);
+        }
+        if (predicate.getDate().isPresent()) {
+            LocalDate date = predicate.getDate().get();
+            matches.and(tagIndex.toBitmap(
+                    appointmentIndex.getPersonsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay())));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons in this list with an appointment that starts at or after {@code start} and before
+     * {@code end}, in order of the start of their appointment.
+     */
+    public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return appointmentIndex.getPersonsBetween(start, end);
+    }
+
+    /**
+     * Returns the persons in this list with an appointment that overlaps {@code appointment}, in order of the start of
+     * their appointment.
+     *
+     * @see Appointment#overlaps(Appointment)
+     */
+    public List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointmentIndex.getPersonsOverlapping(appointment);
+    }
+
+    /**
+     * Returns the id of {@code person}, which must be in this list. The id stays the same when the person is replaced
+     * by an edited person, or by a person with the same identity when the list is replaced, and is never given to
+     * another person in this list. Ids are only valid for as long as this list is in memory.
+     */
+    long getId(Person person) {
+        Long id = ids.get(person);
+        if (id == null) {
+            throw new PersonNotFoundException();
+        }
+        return id;
+    }
+
+    /**
+     * Returns the version of this list, which changes every time the list is modified.
+     */
+    public long getVersion() {
+        return currentVersion.number;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in this list as they are now, which is not affected by later
+     * modifications of this list, and can be read from any thread.
+     */
+    public synchronized List<Person> snapshot() {
+        return new Snapshot(this, currentVersion);
+    }
+
+    /**
+     * Returns the modifications that turn {@code earlier} into {@code later}, in the order in which they were made,
+     * where both are snapshots taken by {@link #snapshot()}. Returns an empty {@code Optional} if there is no such
+     * record: if the snapshots are of different lists, if {@code later} was not taken after {@code earlier}, or if
+     * the list was replaced as a whole in between.
+     */
+    public static Optional<List<PersonListChange>> getChangesBetween(List<Person> earlier, List<Person> later) {
+        requireAllNonNull(earlier, later);
+        if (!(earlier instanceof Snapshot earlierSnapshot) || !(later instanceof Snapshot laterSnapshot)
+                || earlierSnapshot.owner != laterSnapshot.owner) {
+            return Optional.empty();
+        }
+
+        synchronized (earlierSnapshot.owner) {
+            List<PersonListChange> changes = new ArrayList<>();
+            for (Version v = earlierSnapshot.origin; v != laterSnapshot.origin; v = v.next) {
+                if (v.next == null || v.change == null) {
+                    return Optional.empty();
+                }
+                changes.add(v.change);
+            }
+            return Optional.of(changes);
+        }
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -136,16 +433,226 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Records {@code undo} as the way back from the new version of this list to the current one, and {@code change}
+     * as the way forward, and moves on to the new version. {@code change} is null if the list was replaced as a whole.
+     * Must be called after every modification of {@code internalList}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private void advanceVersion(Consumer<List<Person>> undo, PersonListChange change) {
+        Version nextVersion = new Version(currentVersion.number + 1);
+        currentVersion.undo = undo;
+        currentVersion.change = change;
+        currentVersion.next = nextVersion;
+        currentVersion = nextVersion;
+    }
+
+    /**
+     * Replaces the contents of the name, note, appointment and tag indexes with {@code persons}.
+     * These indexes are updated ahead of {@code internalList}, so that listeners of {@code internalList} already
+     * see the new names, notes, appointments and tags when they are notified.
+     */
+    private void reindex(List<Person> persons) {
+        nameIndex.clear();
+        noteIndex.clear();
+        appointmentIndex.clear();
+        tagIndex.clear();
+        filters.forEach(FilterMatches::clear);
+        persons.forEach(this::addToIndexes);
+    }
+
+    private void addToIndexes(Person person) {
+        nameIndex.add(person);
+        noteIndex.add(person);
+        appointmentIndex.add(person);
+        tagIndex.add(person);
+        filters.forEach(filter -> filter.add(person));
+    }
+
+    private void removeFromIndexes(Person person) {
+        nameIndex.remove(person);
+        noteIndex.remove(person);
+        appointmentIndex.remove(person);
+        filters.forEach(filter -> filter.remove(person));
+        tagIndex.remove(person);
+    }
+
+    /**
+     * Returns the position of {@code target} in {@code internalList}, or -1 if it is not in the list.
+     * A person from the list is found through the slot of its id. As persons only move towards the front of the list,
+     * when persons before them are removed, a slot that is out of date is corrected by searching back from it. A
+     * person that only equals a person in the list is found by comparing it with every person in the list.
+     */
+    private int indexOf(Person target) {
+        Long id = ids.get(target);
+        if (id == null) {
+            return internalList.indexOf(target);
+        }
+
+        int slot = Math.min(slots.get(id), internalList.size() - 1);
+        while (internalList.get(slot) != target) {
+            slot--;
+        }
+        slots.put(id, slot);
+        return slot;
+    }
+
+    private void assignId(Person person, long id, int slot) {
+        ids.put(person, id);
+        slots.put(id, slot);
+    }
+
+    /**
+     * Gives every person in {@code persons}, the new contents of {@code internalList}, an id and a slot. Persons that
+     * were already in the list keep their id, and the other persons take the id of the person with the same identity
+     * in the list, if there is one. As the identities in each list are unique, no two persons are given the same id.
+     * This must be called before {@code identityIndex} is replaced. Like the indexes, ids and slots are assigned ahead
+     * of {@code internalList}, so that listeners of {@code internalList} can already find the positions of the persons
+     * they are notified of.
+     */
+    private void reassignIds(List<Person> persons) {
+        Map<Person, Long> previousIds = new IdentityHashMap<>(ids);
+        ids.clear();
+        slots.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Long id = previousIds.get(person);
+            if (id == null) {
+                Person sameIdentity = identityIndex.get(Identity.of(person));
+                id = sameIdentity == null ? null : previousIds.get(sameIdentity);
+            }
+            assignId(person, id != null ? id : nextId++, i);
+        }
+    }
+
+    private static void setAll(List<Person> persons, List<Person> replacement) {
+        persons.clear();
+        persons.addAll(replacement);
+    }
+
+    /**
+     * Returns an identity index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    private static Map<Identity, Person> indexByIdentity(List<Person> persons) {
+        Map<Identity, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(Identity.of(person), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * A version of a {@code UniquePersonList}. Each version that has been superseded links to the next version, and
+     * knows the modification that led there and how to undo it.
+     */
+    private static class Version {
+        private final long number;
+        private Version next;
+        private Consumer<List<Person>> undo;
+        private PersonListChange change;
+
+        Version(long number) {
+            this.number = number;
+        }
+    }
+
+    /**
+     * A read-only view of the persons in a {@code UniquePersonList} at a given version.
+     * The first read copies the persons of the live list, and rebuilds the persons of that version from them if the
+     * live list has moved on since. The copy is kept from then on. It is made while holding the lock of the live list,
+     * which every modification of the list also holds, so a snapshot can be read from another thread than the one
+     * modifying the list.
+     */
+    private static class Snapshot extends AbstractList<Person> implements RandomAccess {
+        private final UniquePersonList owner;
+        private final Version origin;
+        private volatile List<Person> persons;
+
+        Snapshot(UniquePersonList owner, Version origin) {
+            this.owner = owner;
+            this.origin = origin;
+        }
+
+        private List<Person> persons() {
+            List<Person> restored = persons;
+            if (restored != null) {
+                return restored;
+            }
+
+            synchronized (owner) {
+                if (persons == null) {
+                    persons = restore();
                 }
+                return persons;
+            }
+        }
+
+        private List<Person> restore() {
+            Deque<Consumer<List<Person>>> undos = new ArrayDeque<>();
+            for (Version v = origin; v.next != null; v = v.next) {
+                undos.push(v.undo);
+            }
+            List<Person> restored = new ArrayList<>(owner.internalList);
+            while (!undos.isEmpty()) {
+                undos.pop().accept(restored);
             }
+            return restored;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons().get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons().size();
+        }
+    }
+
+    /**
+     * The persons in this list that match a {@code PatientFilterPredicate}, as a bitmap over the slots of the tag
+     * index. The bitmap is built once, and the bits of the persons added to or removed from the tag index are updated
+     * as they are, so a modification of this list only tests the persons it affects.
+     * The tag index is updated ahead of {@code internalList}, so listeners of {@code internalList} already get answers
+     * for the persons they are notified of.
+     */
+    private class FilterMatches implements Predicate<Person> {
+        private final PatientFilterPredicate predicate;
+        private final BitSet matches;
+
+        FilterMatches(PatientFilterPredicate predicate) {
+            this.predicate = predicate;
+            this.matches = findMatches(predicate);
+            filters.add(this);
+        }
+
+        void add(Person person) {
+            tagIndex.set(matches, person, predicate.test(person));
+        }
+
+        void remove(Person person) {
+            tagIndex.set(matches, person, false);
+        }
+
+        void clear() {
+            matches.clear();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return tagIndex.contains(matches, person);
+        }
+    }
+
+    /**
+     * The identity fields of a person, as compared by {@code Person#isSamePerson(Person)}.
+     */
+    private record Identity(Name name, Phone phone) {
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
         }
-        return true;
     }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,6 +20,9 @@ public class Tag {
 
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, Tag> CANONICAL_TAGS = Map.of(
+            "low", new Tag("low"), "medium", new Tag("medium"), "high", new Tag("high"));
+
     public final String tagName;
 
     /**
@@ -32,6 +36,18 @@ public class Tag {
         this.tagName = tagName.toLowerCase();
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, ignoring case.
+     * As there are only a few valid tags, every patient with the same tag can refer to the same instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return CANONICAL_TAGS.get(tagName.toLowerCase(Locale.ROOT));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the formats of the {@code AddressBookStorage} implementations.
+ */
+public class AddressBookFormatConverter {
+
+    private AddressBookFormatConverter() {} // prevents instantiation
+
+    /**
+     * Reads the address book of {@code source} and saves it with {@code target}.
+     *
+     * @return false if {@code source} has no address book file, in which case nothing is saved.
+     * @throws DataLoadingException if the address book of {@code source} could not be read.
+     * @throws IOException if the address book could not be saved with {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the json address book file at {@code jsonFilePath} into a binary one at {@code binaryFilePath}.
+     *
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new JsonAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary address book file at {@code binaryFilePath} into a json one at {@code jsonFilePath}.
+     *
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new BinaryAddressBookStorage(binaryFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds an {@code AddressBook} from the {@code JsonAdaptedPatient}s read from a data file.
+ *
+ * The patients are taken in batches. The patients of a batch are converted into the model's persons in parallel,
+ * by splitting the batch into chunks on the common {@code ForkJoinPool}. The converted persons are then added to the
+ * address book one by one on the calling thread, in the order they were read, which is also where duplicates are
+ * detected. Errors are reported in that order too, so the error reported for a file is the same as if its patients
+ * were converted one at a time: that of the first patient that is invalid or a duplicate.
+ */
+class AddressBookLoader {
+
+    static final int BATCH_SIZE = 8192;
+    static final int CHUNK_SIZE = 256;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<JsonAdaptedPatient> pending = new ArrayList<>();
+
+    /**
+     * Adds {@code patient} to the address book being built.
+     * It may only be converted and added when a later patient completes its batch, or on {@link #finish()}.
+     *
+     * @throws IllegalValueException if a patient of the batch completed by {@code patient} is invalid or a duplicate.
+     */
+    void add(JsonAdaptedPatient patient) throws IllegalValueException {
+        requireNonNull(patient);
+        pending.add(patient);
+        if (pending.size() == BATCH_SIZE) {
+            addPending();
+        }
+    }
+
+    /**
+     * Adds the remaining patients, and returns the address book with all the patients added.
+     *
+     * @throws IllegalValueException if a remaining patient is invalid or a duplicate.
+     */
+    AddressBook finish() throws IllegalValueException {
+        addPending();
+        return addressBook;
+    }
+
+    private void addPending() throws IllegalValueException {
+        Person[] persons = new Person[pending.size()];
+        Exception[] errors = new Exception[pending.size()];
+        ForkJoinPool.commonPool().invoke(new ConversionTask(pending, persons, errors, 0, pending.size()));
+
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) errors[i];
+            } else if (errors[i] != null) {
+                throw (RuntimeException) errors[i];
+            }
+            if (addressBook.hasPerson(persons[i])) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(persons[i]);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Converts the patients from {@code start} (inclusive) to {@code end} (exclusive), storing each person, or the
+     * error that prevented its conversion, at the same index.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPatient> patients;
+        private final Person[] persons;
+        private final Exception[] errors;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<JsonAdaptedPatient> patients, Person[] persons, Exception[] errors, int start, int end) {
+            this.patients = patients;
+            this.persons = persons;
+            this.errors = errors;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConversionTask(patients, persons, errors, start, middle),
+                        new ConversionTask(patients, persons, errors, middle, end));
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                try {
+                    persons[i] = patients.get(i).toModelType();
+                } catch (IllegalValueException | RuntimeException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits for the address books given to {@link #saveAddressBook(ReadOnlyAddressBook)} to be written, for storages
+     * that write them in the background. Other storages have nothing to wait for.
+     *
+     * @throws IOException if there was any problem writing to the file that has not been reported yet.
+     */
+    default void flush() throws IOException {
+    }
+
+    /**
+     * Registers {@code listener} to be given every failure to write an address book in the background, as soon as it
+     * happens, for storages that write address books in the background. Such failures are then no longer thrown by
+     * later calls to {@link #saveAddressBook(ReadOnlyAddressBook)} or {@link #flush()}. Other storages throw their
+     * failures from {@link #saveAddressBook(ReadOnlyAddressBook)}, and never call {@code listener}.
+     */
+    default void addSaveFailureListener(Consumer<IOException> listener) {
+    }
+
 }
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves address books on a background thread, through another
+ * {@code AddressBookStorage}.
+ *
+ * Saving only copies the persons of the address book before returning, unless it is an {@code AddressBookSnapshot},
+ * which later modifications do not affect, so it is passed on as it is. If more saves are requested while a save is
+ * being written, only the last of them is written afterwards. A save that fails is given to the failure listeners as
+ * soon as it fails, on the thread that wrote it. If there are none, it is reported by the next call to
+ * {@link #saveAddressBook(ReadOnlyAddressBook, Path)} or {@link #flush()} instead. Either way, the next save writes
+ * the latest address book again, so a failure is not lost even if the saves in between were skipped.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Executor executor;
+    private final List<Consumer<IOException>> failureListeners = new CopyOnWriteArrayList<>();
+
+    private PendingSave pendingSave;
+    private boolean isSaving;
+    private IOException unreportedFailure;
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that saves through {@code addressBookStorage} on its own daemon
+     * thread.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that saves through {@code addressBookStorage} on {@code executor}.
+     */
+    AsyncAddressBookStorage(AddressBookStorage addressBookStorage, Executor executor) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(executor);
+        this.addressBookStorage = addressBookStorage;
+        this.executor = executor;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Waits for the saves that have been requested to be written before reading.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitSaves();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Requests {@code addressBook} to be saved in the background, and returns without waiting for it to be written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if an earlier save failed, and the failure has not been reported yet. The save of
+     *     {@code addressBook} is still requested.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook savedAddressBook = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new ImmutableAddressBook(addressBook);
+        PendingSave save = new PendingSave(savedAddressBook, filePath);
+        synchronized (this) {
+            pendingSave = save;
+            if (!isSaving) {
+                isSaving = true;
+                executor.execute(this::writePendingSaves);
+            }
+        }
+        reportFailure();
+    }
+
+    /**
+     * Waits for the saves that have been requested to be written.
+     *
+     * @throws IOException if a save failed, and the failure has not been reported yet.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitSaves();
+        reportFailure();
+    }
+
+    @Override
+    public void addSaveFailureListener(Consumer<IOException> listener) {
+        requireNonNull(listener);
+        failureListeners.add(listener);
+    }
+
+    private synchronized void awaitSaves() {
+        boolean isInterrupted = false;
+        while (isSaving) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void reportFailure() throws IOException {
+        if (unreportedFailure != null) {
+            IOException failure = unreportedFailure;
+            unreportedFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Gives {@code failure} to the failure listeners, or keeps it to be thrown by the next save if there are none.
+     */
+    private void reportFailure(IOException failure) {
+        if (failureListeners.isEmpty()) {
+            synchronized (this) {
+                unreportedFailure = failure;
+            }
+            return;
+        }
+        for (Consumer<IOException> listener : failureListeners) {
+            listener.accept(failure);
+        }
+    }
+
+    /**
+     * Writes the pending save, and then any save requested in the meantime, until there are none left.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            PendingSave save;
+            synchronized (this) {
+                save = pendingSave;
+                pendingSave = null;
+                if (save == null) {
+                    isSaving = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(save.addressBook, save.filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save address book to " + save.filePath + ": " + e);
+                reportFailure(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        }
+    }
+
+    /**
+     * An address book waiting to be saved at a file path.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
+    }
+
+    /**
+     * A copy of the persons of an address book, which can be read from any thread.
+     */
+    private static class ImmutableAddressBook implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        ImmutableAddressBook(ReadOnlyAddressBook source) {
+            List<Person> copy = List.copyOf(source.getPersonList());
+            persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(copy));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file is read straight from a memory mapping when it is large, see {@link FileUtil#readAsBuffer(Path)}.
+ * It starts with a header of {@link #MAGIC} and {@link #FORMAT_VERSION}. It is followed by a table of the
+ * tag names and note texts, which are often repeated, and then by the persons, whose tags and notes refer to entries
+ * of the table by their position. Strings are written as their length in bytes followed by their UTF-8 bytes, with a
+ * length of -1 for a missing string.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every binary address book file: "PAB" followed by a zero byte. */
+    public static final int MAGIC = 0x50414200;
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported";
+    public static final String MESSAGE_INVALID_STRING_REFERENCE = "Reference to missing string %d";
+
+    private static final int NO_STRING = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readAddressBook(FileUtil.readAsBuffer(filePath), filePath));
+        } catch (BufferUnderflowException bue) {
+            logger.warning("Binary file " + filePath + " ends unexpectedly");
+            throw new DataLoadingException(new EOFException("Unexpected end of " + filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Reads the address book in {@code in}, which holds the contents of the file at {@code filePath}.
+     *
+     * @throws BufferUnderflowException if {@code in} ends before the address book does.
+     */
+    private AddressBook readAddressBook(ByteBuffer in, Path filePath) throws IOException, IllegalValueException {
+        if (in.remaining() < Integer.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+        }
+        short version = in.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = in.getInt();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(in));
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        int personCount = in.getInt();
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String address = readString(in);
+            String appointment = readString(in);
+            int tagReference = in.getInt();
+            JsonAdaptedTag tag = tagReference == NO_STRING
+                    ? null
+                    : new JsonAdaptedTag(getString(strings, tagReference));
+            int noteCount = in.getInt();
+            List<String> notes = new ArrayList<>();
+            for (int j = 0; j < noteCount; j++) {
+                notes.add(getString(strings, in.getInt()));
+            }
+
+            JsonAdaptedPatient patient = new JsonAdaptedPatient(name, phone, address, appointment, null, notes, tag);
+            loader.add(patient);
+        }
+        return loader.finish();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in a single step once the address book has been written in full, so a failed save leaves
+     * the previous file as it was.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringReferences = new LinkedHashMap<>();
+        for (Person person : persons) {
+            if (person instanceof Patient patient) {
+                patient.getTag().ifPresent(tag -> addString(stringReferences, tag.tagName));
+                for (Note note : patient.getNotes()) {
+                    addString(stringReferences, note.value);
+                }
+            }
+        }
+
+        FileUtil.writeToFileAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+
+            out.writeInt(stringReferences.size());
+            for (String string : stringReferences.keySet()) {
+                writeString(out, string);
+            }
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, stringReferences);
+            }
+        }, 0);
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringReferences)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getAddress().value);
+        if (!(person instanceof Patient patient)) {
+            // Non-patient persons are saved as patients without any appointment, tag or notes, as in the json file.
+            writeString(out, null);
+            out.writeInt(NO_STRING);
+            out.writeInt(0);
+            return;
+        }
+
+        writeString(out, patient.getAppointment() == null ? null : patient.getAppointment().toString());
+        out.writeInt(patient.getTag().map(tag -> stringReferences.get(tag.tagName)).orElse(NO_STRING));
+        out.writeInt(patient.getNotes().size());
+        for (Note note : patient.getNotes()) {
+            out.writeInt(stringReferences.get(note.value));
+        }
+    }
+
+    private static void addString(Map<String, Integer> stringReferences, String string) {
+        stringReferences.putIfAbsent(string, stringReferences.size());
+    }
+
+    private static String getString(List<String> strings, int reference) throws IllegalValueException {
+        if (reference < 0 || reference >= strings.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_REFERENCE, reference));
+        }
+        return strings.get(reference);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NO_STRING);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes the string at the position of {@code in} straight from the buffer, and moves past it.
+     */
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Invalid string length " + length);
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = StandardCharsets.UTF_8.decode(in.slice(in.position(), length)).toString();
+        in.position(in.position() + length);
+        return string;
+    }
+}
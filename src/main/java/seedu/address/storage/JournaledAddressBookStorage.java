@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with an append-only
+ * journal of the changes made since the snapshot was written.
+ *
+ * Each save of an {@link AddressBookSnapshot} appends the modifications that the model recorded between the snapshot
+ * of the previous save and this one to the journal, one record for each add, edit or delete, so a save neither copies
+ * nor compares the persons. The journal is compacted into a fresh snapshot when it grows past
+ * {@link #DEFAULT_COMPACTION_THRESHOLD} records, and a fresh snapshot is also written when the modifications since
+ * the previous save are not known: on the first save after reading the address book or after a failed save, when the
+ * persons were replaced as a whole, and when the address book saved is not a snapshot following the previous one.
+ *
+ * Every snapshot records a generation, which the first record of its journal repeats. A compaction writes the new
+ * snapshot, of the next generation, in full before the journal is removed, and a journal of another generation than
+ * its snapshot is left over from a compaction that did not complete, so it is ignored when reading.
+ *
+ * Saves can be made from any thread, as long as they are not made concurrently, and the address book is not modified
+ * while it is being saved unless it is a snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** The address book of the last save, or null if the next save has to write a fresh snapshot. */
+    private AddressBookSnapshot savedAddressBook;
+    private Path savedFilePath;
+    /** The generation of the snapshot at {@code savedFilePath}. */
+    private long savedGeneration;
+    private int journalLength;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} records.
+     */
+    JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays the journal kept alongside it, if any, unless the journal is
+     * of another generation than the snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+        long generation = snapshotStorage.readGeneration(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        recordRead(filePath, generation);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        try {
+            replayJournal(journalFilePath, generation, persons);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found after replaying " + journalFilePath);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Applies every entry of the journal at {@code journalFilePath} to {@code persons}, in order, if the journal is of
+     * {@code generation}. A journal without a header is taken to be of generation 0, as is a snapshot without one.
+     * An incomplete last entry, left behind by an interrupted save, is ignored.
+     */
+    private void replayJournal(Path journalFilePath, long generation, List<Person> persons)
+            throws IOException, IllegalValueException {
+        String journal = FileUtil.readFromFile(journalFilePath);
+        boolean isLastEntryComplete = journal.endsWith("\n");
+        String[] lines = journal.split("\n");
+
+        boolean isHeaderRead = false;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalHeader header;
+            JsonAdaptedJournalEntry entry;
+            try {
+                header = isHeaderRead ? null : JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalHeader.class);
+                entry = header != null && header.getGeneration() != null
+                        ? null
+                        : JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.length - 1 && !isLastEntryComplete) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    return;
+                }
+                throw ioe;
+            }
+
+            if (!isHeaderRead) {
+                isHeaderRead = true;
+                long journalGeneration = entry == null ? header.getGeneration() : 0;
+                if (journalGeneration != generation) {
+                    logger.warning("Ignoring journal file " + journalFilePath + " of generation " + journalGeneration
+                            + ", as its snapshot is of generation " + generation);
+                    return;
+                }
+            }
+            if (entry != null) {
+                entry.applyTo(persons);
+            }
+        }
+    }
+
+    /**
+     * Records that the snapshot of {@code generation} at {@code filePath} was read, so that the next save, which writes
+     * a fresh snapshot, gives it the next generation.
+     */
+    private void recordRead(Path filePath, long generation) {
+        savedAddressBook = null;
+        savedFilePath = filePath;
+        savedGeneration = generation;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Appends the changes made since the last save to the journal, or writes a fresh snapshot if {@code filePath}
+     * differs from the last save, if the changes are not known, or if the journal is due for compaction.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot =
+                addressBook instanceof AddressBookSnapshot ? (AddressBookSnapshot) addressBook : null;
+        Optional<List<PersonListChange>> changes = snapshot != null && savedAddressBook != null
+                && filePath.equals(savedFilePath)
+                ? snapshot.getChangesSince(savedAddressBook)
+                : Optional.empty();
+
+        // the journal may be left inconsistent by a failed save, so the next save has to start over from a snapshot
+        savedAddressBook = null;
+        if (changes.isEmpty() || journalLength + changes.get().size() > compactionThreshold) {
+            compact(addressBook, filePath);
+        } else {
+            append(changes.get(), filePath);
+        }
+
+        savedAddressBook = snapshot;
+        savedFilePath = filePath;
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh snapshot of the next generation at {@code filePath}, and then discards its
+     * journal.
+     * The snapshot replaces the previous one in a single step, so until then, the previous snapshot and its journal
+     * are read back. Once the new snapshot is in place, the journal no longer matches its generation, so it is
+     * ignored even if removing it fails.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Compacting journal into snapshot: " + filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        long generation = (filePath.equals(savedFilePath) ? savedGeneration : readJournalGeneration(journalFilePath))
+                + 1;
+
+        snapshotStorage.saveAddressBook(addressBook, filePath, generation);
+        savedFilePath = filePath;
+        savedGeneration = generation;
+        journalLength = 0;
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    /**
+     * Returns the generation recorded in the header of the journal at {@code journalFilePath}, or 0 if there is no
+     * journal or its header cannot be read, so that a new snapshot can be given another generation than the journal.
+     */
+    private static long readJournalGeneration(Path journalFilePath) {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath)) {
+            String firstLine = reader.readLine();
+            Long generation = firstLine == null
+                    ? null
+                    : JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalHeader.class).getGeneration();
+            return generation == null ? 0 : generation;
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Appends a record of each of {@code changes} to the journal at {@code filePath}.
+     * The first entries after a compaction start a new journal, headed by the generation of the snapshot, in place of
+     * any journal left over from an earlier generation.
+     */
+    private void append(List<PersonListChange> changes, Path filePath) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        if (journalLength == 0) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(savedGeneration))).append('\n');
+        }
+        for (PersonListChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(toJournalEntry(change))).append('\n');
+        }
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (journalLength == 0) {
+            FileUtil.writeToFile(journalFilePath, records.toString());
+        } else {
+            FileUtil.appendToFile(journalFilePath, records.toString());
+        }
+        journalLength += changes.size();
+    }
+
+    private static JsonAdaptedJournalEntry toJournalEntry(PersonListChange change) {
+        if (change.removed() == null) {
+            return JsonAdaptedJournalEntry.added(change.index(), change.added());
+        }
+        if (change.added() == null) {
+            return JsonAdaptedJournalEntry.removed(change.index());
+        }
+        return JsonAdaptedJournalEntry.replaced(change.index(), change.removed(), change.added());
+    }
+
+}
@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the person list, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * Persons are identified by their position in the person list at the time of the change.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    /**
+     * The kinds of change that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD, DELETE, SET, NOTE, APPOINTMENT
+    }
+
+    private final Operation op;
+    private final int index;
+    private final JsonAdaptedPatient person;
+    private final String note;
+    private final String appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") Operation op, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPatient person, @JsonProperty("note") String note,
+            @JsonProperty("appointment") String appointment) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.note = note;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns an entry recording that {@code added} was inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry added(int index, Person added) {
+        return new JsonAdaptedJournalEntry(Operation.ADD, index,
+                JsonSerializableAddressBook.toJsonAdaptedPatient(added), null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person at {@code index} was removed.
+     */
+    public static JsonAdaptedJournalEntry removed(int index) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE, index, null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the person {@code target} at {@code index} was replaced by
+     * {@code editedPerson}.
+     * If the only difference between the two is a newly added note or appointment, only that note or appointment
+     * is recorded.
+     */
+    public static JsonAdaptedJournalEntry replaced(int index, Person target, Person editedPerson) {
+        if (target instanceof Patient patient && editedPerson instanceof Patient editedPatient) {
+            List<Note> editedNotes = editedPatient.getNotes();
+            if (editedNotes.size() == patient.getNotes().size() + 1) {
+                Note addedNote = editedNotes.get(editedNotes.size() - 1);
+                if (patient.addNote(addedNote).equals(editedPatient)) {
+                    return new JsonAdaptedJournalEntry(Operation.NOTE, index, null, addedNote.value, null);
+                }
+            }
+
+            Appointment editedAppointment = editedPatient.getAppointment();
+            if (editedAppointment != null && patient.addAppointment(editedAppointment).equals(editedPatient)) {
+                return new JsonAdaptedJournalEntry(Operation.APPOINTMENT, index, null, null,
+                        editedAppointment.toString());
+            }
+        }
+
+        return new JsonAdaptedJournalEntry(Operation.SET, index,
+                JsonSerializableAddressBook.toJsonAdaptedPatient(editedPerson), null, null);
+    }
+
+    /**
+     * Replays the change recorded by this entry on {@code persons}.
+     *
+     * @throws IllegalValueException if the recorded change is invalid or cannot be applied to {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing operation"));
+        }
+
+        switch (op) {
+        case ADD:
+            checkIndex(persons.size() + 1);
+            persons.add(index, toModelPerson());
+            break;
+
+        case DELETE:
+            checkIndex(persons.size());
+            persons.remove(index);
+            break;
+
+        case SET:
+            checkIndex(persons.size());
+            persons.set(index, toModelPerson());
+            break;
+
+        case NOTE:
+            if (note == null || !Note.isValidNote(note)) {
+                throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+            }
+            persons.set(index, getPatient(persons).addNote(Note.of(note)));
+            break;
+
+        case APPOINTMENT:
+            if (appointment == null) {
+                throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+            }
+            persons.set(index, getPatient(persons).addAppointment(
+                    JsonAdaptedPatient.toModelAppointment(appointment)));
+            break;
+
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown operation " + op));
+        }
+    }
+
+    private void checkIndex(int bound) throws IllegalValueException {
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "index " + index + " out of range"));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing person"));
+        }
+        return person.toModelType();
+    }
+
+    private Patient getPatient(List<Person> persons) throws IllegalValueException {
+        checkIndex(persons.size());
+        Person target = persons.get(index);
+        if (!(target instanceof Patient)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "person is not a patient"));
+        }
+        return (Patient) target;
+    }
+
+}
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first record of the journal of a {@link JournaledAddressBookStorage}, which
+ * records the generation of the snapshot that the journal applies to.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given generation.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("generation") Long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the generation of the snapshot that the journal applies to, or null if this record is not a header,
+     * as in journals written before headers were recorded.
+     */
+    public Long getGeneration() {
+        return generation;
+    }
+}
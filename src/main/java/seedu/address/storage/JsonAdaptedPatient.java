@@ -61,26 +61,14 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
 
         Appointment modelAppointment = null;
         if (appointment != null) {
-            String trimmedAppointment = appointment.trim();
-            if (trimmedAppointment.isEmpty()) {
-                throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
-            }
-            String[] parts = trimmedAppointment.split("\\s+", 2);
-            if (parts.length != 2) {
-                throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
-            }
-            try {
-                modelAppointment = new Appointment(parts[0], parts[1]);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalValueException(e.getMessage());
-            }
+            modelAppointment = toModelAppointment(appointment);
         }
 
         List<Note> modelNotes = new ArrayList<>();
         if (notes != null) {
             for (String noteValue : notes) {
                 if (noteValue != null && !noteValue.equals("NIL")) {
-                    modelNotes.add(new Note(noteValue));
+                    modelNotes.add(Note.of(noteValue));
                 }
             }
         }
@@ -90,4 +78,26 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
         return new Patient(base.getName(), base.getPhone(), base.getAddress(),
                 modelTag, modelNotes, modelAppointment);
     }
+
+    /**
+     * Converts an appointment in the {@code dd-MM-yyyy HH:mm} format written by {@link Appointment#toString()}
+     * into the model's {@code Appointment} object.
+     *
+     * @throws IllegalValueException if {@code appointment} is not a valid appointment.
+     */
+    static Appointment toModelAppointment(String appointment) throws IllegalValueException {
+        String trimmedAppointment = appointment.trim();
+        if (trimmedAppointment.isEmpty()) {
+            throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        String[] parts = trimmedAppointment.split("\\s+", 2);
+        if (parts.length != 2) {
+            throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            return new Appointment(parts[0], parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
 }
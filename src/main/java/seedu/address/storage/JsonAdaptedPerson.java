@@ -77,7 +77,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
 
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         return new Person(modelName, modelPhone, modelAddress);
     }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,12 +20,28 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The number of previous versions of the data file that are kept by default. */
+    public static final int DEFAULT_BACKUP_COUNT = 2;
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GENERATION_FIELD = "generation";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps the previous {@code backupCount} versions of the data file
+     * every time it is saved.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +55,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The persons in the file are converted and added to the address book in batches as they are read, so that
+     * only the address book itself is held in memory in full. The persons of a batch are converted in parallel, see
+     * {@link AddressBookLoader}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +65,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookLoader loader = new AddressBookLoader();
+        AddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFileFound = JsonUtil.readJsonArrayElements(filePath, PERSONS_FIELD, JsonAdaptedPatient.class,
+                    loader::add);
+            if (!isFileFound) {
+                return Optional.empty();
+            }
+            addressBook = loader.finish();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -66,6 +89,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so an interrupted save leaves the previous version of the file intact. The
+     * previous versions are also kept as backups, see {@link FileUtil#getBackupFilePath(Path, int)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +98,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableAddressBook(addressBook), filePath, backupCount);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, also recording {@code generation} in the file.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long generation) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableAddressBook(addressBook, generation), filePath,
+                backupCount);
+    }
+
+    /**
+     * Returns the generation recorded in the file at {@code filePath}, or 0 if the file is not found or records none.
+     *
+     * @throws DataLoadingException if reading the file failed.
+     */
+    long readGeneration(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return JsonUtil.readJsonLongField(filePath, GENERATION_FIELD).orElse(0);
     }
 
 }
@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,19 +18,26 @@ import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * A snapshot written by a {@link JournaledAddressBookStorage} also records its generation, ahead of the persons, so
+ * that it can be read without reading the persons.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"generation", "persons"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long generation;
     private final List<JsonAdaptedPatient> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and generation.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPatient> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("generation") Long generation,
+            @JsonProperty("persons") List<JsonAdaptedPatient> persons) {
+        this.generation = generation;
         this.persons.addAll(persons);
     }
 
@@ -38,6 +47,16 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, recording {@code generation}.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long generation) {
+        this.generation = generation;
         persons.addAll(source.getPersonList().stream()
                 .map(JsonSerializableAddressBook::toJsonAdaptedPatient)
                 .collect(Collectors.toList()));
@@ -45,22 +64,22 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted in parallel, see {@link AddressBookLoader}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        AddressBookLoader loader = new AddressBookLoader();
         for (JsonAdaptedPatient jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            loader.add(jsonAdaptedPerson);
         }
-        return addressBook;
+        return loader.finish();
     }
 
-    private static JsonAdaptedPatient toJsonAdaptedPatient(Person source) {
+    /**
+     * Converts a given {@code Person} into a {@code JsonAdaptedPatient} for Jackson use.
+     */
+    static JsonAdaptedPatient toJsonAdaptedPatient(Person source) {
         if (source instanceof Patient patient) {
             return new JsonAdaptedPatient(patient);
         }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for data to be written to file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public void addSaveFailureListener(Consumer<IOException> listener) {
+        addressBookStorage.addSaveFailureListener(listener);
+    }
+
 }
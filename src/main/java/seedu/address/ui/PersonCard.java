@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
@@ -24,7 +27,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private Label name;
@@ -41,11 +44,35 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final Label appointmentLabel = createSmallLabel();
+    private final Label tagLabel = new Label();
+
+    /**
+     * Creates a {@code PersonCard} that does not display any person yet.
+     * A person is displayed with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        appointmentContainer.getChildren().add(appointmentLabel);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} on this card, in place of the person displayed before.
+     * The nodes of the card are reused, so that a card can be rebound to another person without loading its FXML again.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -53,43 +80,61 @@ public class PersonCard extends UiPart<Region> {
         address.setText(person.getAddress().value);
         if (person instanceof Patient patient) {
             // Set notes for patients
-            if (!patient.getNotes().isEmpty()) {
-                notesContainer.setVisible(true);
-                notesContainer.setManaged(true);
-                for (Note note : patient.getNotes()) {
-                    Label noteLabel = new Label("• " + note.value);
-                    noteLabel.setWrapText(true);
-                    noteLabel.getStyleClass().add("cell_small_label");
-                    notesContainer.getChildren().add(noteLabel);
-                }
-            } else {
-                notesContainer.setVisible(false);
-                notesContainer.setManaged(false);
-            }
+            setNotes(patient.getNotes());
             // Set appointment for patients
             if (patient.getAppointment() != null) {
-                appointmentContainer.setVisible(true);
-                appointmentContainer.setManaged(true);
-                appointmentContainer.getChildren().clear();
-
-                Label apptLabel = new Label("• " + patient.getAppointment().toString());
-                apptLabel.getStyleClass().add("cell_small_label");
-                appointmentContainer.getChildren().add(apptLabel);
+                setShown(appointmentContainer, true);
+                appointmentLabel.setText("• " + patient.getAppointment().toString());
             } else {
-                appointmentContainer.setVisible(false);
-                appointmentContainer.setManaged(false);
+                setShown(appointmentContainer, false);
             }
 
+            if (patient.getTag().isPresent()) {
+                tagLabel.setText(patient.getTag().get().tagName);
+                if (tags.getChildren().isEmpty()) {
+                    tags.getChildren().add(tagLabel);
+                }
+            } else {
+                tags.getChildren().clear();
+            }
+        } else {
+            // For non-patients, hide notes, appointment and tag
+            setShown(notesContainer, false);
+            setShown(appointmentContainer, false);
             tags.getChildren().clear();
+        }
+    }
 
-            patient.getTag().ifPresent(tag ->
-                    tags.getChildren().add(new Label(tag.tagName)));
-        } else {
-            // For non-patients, hide notes and appointment
-            notesContainer.setVisible(false);
-            notesContainer.setManaged(false);
-            appointmentContainer.setVisible(false);
-            appointmentContainer.setManaged(false);
+    /**
+     * Shows one label per note in {@code notes}, reusing the labels of the notes shown before.
+     */
+    private void setNotes(List<Note> notes) {
+        List<Node> noteLabels = notesContainer.getChildren();
+        if (noteLabels.size() > notes.size()) {
+            noteLabels.remove(notes.size(), noteLabels.size());
+        }
+        for (int i = 0; i < notes.size(); i++) {
+            String text = "• " + notes.get(i).value;
+            if (i < noteLabels.size()) {
+                ((Label) noteLabels.get(i)).setText(text);
+            } else {
+                Label noteLabel = createSmallLabel();
+                noteLabel.setWrapText(true);
+                noteLabel.setText(text);
+                noteLabels.add(noteLabel);
+            }
         }
+        setShown(notesContainer, !notes.isEmpty());
+    }
+
+    private static Label createSmallLabel() {
+        Label label = new Label();
+        label.getStyleClass().add("cell_small_label");
+        return label;
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
     }
 }
@@ -28,6 +28,12 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParameterMap_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Map.of("config", "config.json")));
+    }
+
     @Test
     public void parse_nullConfigPath_success() {
         parametersStub.namedParameters.put("config", null);
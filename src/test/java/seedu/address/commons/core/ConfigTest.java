@@ -14,7 +14,8 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", commandMetricsFilePath=" + config.getCommandMetricsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -1,15 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -22,4 +34,102 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readAsBuffer_smallFile_readsContents() throws Exception {
+        Path file = testFolder.resolve("small.txt");
+        FileUtil.writeToFile(file, "héllo");
+
+        ByteBuffer buffer = FileUtil.readAsBuffer(file);
+
+        assertTrue(buffer.isReadOnly());
+        assertEquals("héllo", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test
+    public void readAsBuffer_fileAtThreshold_readsContents() throws Exception {
+        Path file = testFolder.resolve("mapped.txt");
+        FileUtil.writeToFile(file, "mapped contents");
+
+        ByteBuffer buffer = FileUtil.readAsBuffer(file, 1);
+
+        assertTrue(buffer.isReadOnly());
+        assertEquals("mapped contents", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test
+    public void readAsBuffer_emptyFile_emptyBuffer() throws Exception {
+        Path file = testFolder.resolve("empty.txt");
+        FileUtil.writeToFile(file, "");
+
+        assertEquals(0, FileUtil.readAsBuffer(file, 0).remaining());
+    }
+
+    @Test
+    public void writeToFileAtomically_newFile_writesContent() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.txt");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)), 2);
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_keepsBackups() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+
+        for (String content : new String[] {"first", "second", "third", "fourth"}) {
+            FileUtil.writeToFileAtomically(file, out -> out.write(content.getBytes(StandardCharsets.UTF_8)), 2);
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void writeToFileAtomically_noBackups_replacesFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)), 0);
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_keepsPreviousContent() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "previous");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, 2));
+
+        assertEquals("previous", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerClosesStream_success() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+
+        FileUtil.writeToFileAtomically(file, out -> {
+            out.write("closed".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        }, 2);
+
+        assertEquals("closed", FileUtil.readFromFile(file));
+    }
+
+    private static long countFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
 }
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -41,6 +49,47 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayElements_arrayField_elementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        List<LocalDateTime> elements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "listOfLocalDateTimes", LocalDateTime.class,
+                elements::add));
+
+        assertEquals(SerializableTestClass.getListTestValues(), elements);
+    }
+
+    @Test
+    public void readJsonArrayElements_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayElements(missingFile, "persons", String.class, element -> {
+            throw new AssertionError("No elements should be read.");
+        }));
+    }
+
+    @Test
+    public void readJsonArrayElements_fieldIsNotArray_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "name",
+                String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonLongField_integerField_valueRead() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"persons\":[{\"generation\":1}],\"generation\":42}");
+        assertEquals(OptionalLong.of(42), JsonUtil.readJsonLongField(SERIALIZATION_FILE, "generation"));
+        assertEquals(OptionalLong.empty(), JsonUtil.readJsonLongField(SERIALIZATION_FILE, "version"));
+        assertEquals(OptionalLong.empty(), JsonUtil.readJsonLongField(
+                TestUtil.getFilePathInSandboxFolder("missing.json"), "generation"));
+    }
+
+    @Test
+    public void readJsonLongField_fieldIsNotInteger_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonLongField(SERIALIZATION_FILE, "name"));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void with_appendsWithoutModifyingOriginal() {
+        PersistentList<String> empty = PersistentList.empty();
+        PersistentList<String> one = empty.with("a");
+        PersistentList<String> two = one.with("b");
+
+        assertEquals(List.of(), empty);
+        assertEquals(List.of("a"), one);
+        assertEquals(List.of("a", "b"), two);
+    }
+
+    @Test
+    public void with_appendToOlderVersion_doesNotAffectNewerVersion() {
+        PersistentList<String> base = PersistentList.<String>empty().with("a");
+        PersistentList<String> first = base.with("b");
+        PersistentList<String> second = base.with("c");
+
+        assertEquals(List.of("a", "b"), first);
+        assertEquals(List.of("a", "c"), second);
+        assertEquals(List.of("a"), base);
+    }
+
+    @Test
+    public void with_manyElements_keepsOrder() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(i);
+            list = list.with(i);
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void with_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().with(null));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.<String>empty().with("a");
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_otherList_isNotAffectedByLaterChanges() {
+        List<String> source = new ArrayList<>(Arrays.asList("a", "b"));
+        PersistentList<String> copy = PersistentList.copyOf(source);
+        source.add("c");
+
+        assertEquals(List.of("a", "b"), copy);
+        assertEquals(List.of("a", "b", "d"), copy.with("d"));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.<String>empty().with("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+}
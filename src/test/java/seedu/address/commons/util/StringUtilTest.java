@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -125,6 +126,44 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alce")); // deletion
+        assertEquals(1, StringUtil.editDistance("alce", "alice")); // insertion
+        assertEquals(1, StringUtil.editDistance("kurz", "kunz")); // replacement
+        assertEquals(2, StringUtil.editDistance("abc", "cba"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("Alice", "alice")); // case sensitive
+    }
+
+    //---------------- Tests for isSingleLineNotStartingWithWhitespace --------------------------------------
+
+    @Test
+    public void isSingleLineNotStartingWithWhitespace_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isSingleLineNotStartingWithWhitespace(null));
+    }
+
+    @Test
+    public void isSingleLineNotStartingWithWhitespace_sameAsRegex() {
+        String[] inputs = {"", " ", "a", " a", "\ta", "\na", "\u000Ba", "\fa", "\ra", "\u00a0a", "\u2028",
+            "a b\tc", "a\nb", "a\rb", "a\u0085b", "a\u2028b", "a\u2029b", "a\u000Bb", "a "};
+        for (String input : inputs) {
+            assertEquals(input.matches("[^\\s].*"), StringUtil.isSingleLineNotStartingWithWhitespace(input), input);
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void constructor_nonPositiveMaxSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WeakInterner<String>(0));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>(1).intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        WeakInterner<String> interner = new WeakInterner<>(10);
+        String first = new String("Blk 30 Geylang Street 29");
+        String second = new String("Blk 30 Geylang Street 29");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_valueNotRepeated_notAdded() {
+        WeakInterner<String> interner = new WeakInterner<>(10);
+        String value = new String("Blk 30 Geylang Street 29");
+
+        assertSame(value, interner.intern(value));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_poolFull_dropsValueToAddRepeatedValue() {
+        WeakInterner<String> interner = new WeakInterner<>(1);
+        String low = new String("low");
+        interner.intern(low);
+        interner.intern(new String("low"));
+
+        String high = new String("high");
+        assertSame(high, interner.intern(high));
+        assertSame(high, interner.intern(new String("high")));
+        assertEquals(1, interner.size());
+        assertNotSame(low, interner.intern(new String("low")));
+    }
+
+    @Test
+    public void intern_moreDistinctValuesThanMaxSize_laterRepeatsShared() {
+        int maxSize = 16384;
+        WeakInterner<String> interner = new WeakInterner<>(maxSize);
+        List<String> distinctValues = new ArrayList<>();
+        for (int i = 0; i < maxSize + 4000; i++) {
+            String value = "Blk " + i + " Geylang Street 29";
+            distinctValues.add(value);
+            assertSame(value, interner.intern(value));
+        }
+        assertEquals(0, interner.size());
+
+        for (int i = 0; i < 100; i++) {
+            String first = new String("Blk " + i + " Clementi Ave 3");
+            interner.intern(first);
+            assertSame(first, interner.intern(new String("Blk " + i + " Clementi Ave 3")));
+            assertSame(first, interner.intern(new String("Blk " + i + " Clementi Ave 3")));
+        }
+        assertEquals(100, interner.size());
+        assertEquals(maxSize + 4000, distinctValues.size());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandSessionTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private CommandSession session;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        session = new CommandSession(new LogicManager(new ModelManager(), storage));
+    }
+
+    @Test
+    public void run_commandsUntilEndOfStream_writesResponses() throws Exception {
+        StringWriter out = new StringWriter();
+        boolean isExited = session.run(new BufferedReader(new StringReader("list\n\n  \nunknown\ndelete 9\n")), out);
+
+        assertFalse(isExited);
+        assertEquals("OK 1\n" + ListCommand.MESSAGE_SUCCESS + "\n"
+                + "ERROR 1\n" + MESSAGE_UNKNOWN_COMMAND + "\n"
+                + "ERROR 1\n" + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n", out.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        StringWriter out = new StringWriter();
+        boolean isExited = session.run(new BufferedReader(new StringReader("exit\nlist\n")), out);
+
+        assertTrue(isExited);
+        assertEquals("OK 1\n" + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n", out.toString());
+    }
+
+    @Test
+    public void run_multiLineFeedback_countsLines() throws Exception {
+        StringWriter out = new StringWriter();
+        session.run(new BufferedReader(new StringReader("add\n")), out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals("ERROR " + (lines.length - 1), lines[0]);
+        assertTrue(lines.length > 2);
+    }
+
+    @Test
+    public void run_unexpectedError_writesErrorAndContinues() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        IllegalStateException error = new IllegalStateException("Index out of sync");
+        session = new CommandSession(new LogicManager(new ModelManager(), storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals("crash")) {
+                    throw error;
+                }
+                return super.execute(commandText);
+            }
+        });
+
+        StringWriter out = new StringWriter();
+        boolean isExited = session.run(new BufferedReader(new StringReader("crash\nlist\n")), out);
+
+        assertFalse(isExited);
+        assertEquals("ERROR 1\n" + String.format(CommandSession.MESSAGE_UNEXPECTED_ERROR, error) + "\n"
+                + "OK 1\n" + ListCommand.MESSAGE_SUCCESS + "\n", out.toString());
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class HeadlessMainTest {
+
+    @Test
+    public void parseNamedParameters_mixedArguments_namedParametersOnly() {
+        assertEquals(Map.of("config", "config.json", "port", "5000"), HeadlessMain.parseNamedParameters(
+                new String[] {"--headless", "--config=config.json", "--port=5000", "-x=1", "--=2"}));
+    }
+
+    @Test
+    public void parseNamedParameters_noNamedParameters_emptyMap() {
+        assertEquals(Map.of(), HeadlessMain.parseNamedParameters(new String[] {"--headless"}));
+    }
+}
@@ -12,6 +12,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,12 +23,15 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -83,6 +88,68 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void addSaveFailureListener_backgroundSaveFails_givesMessageToListener() throws Exception {
+        JsonAddressBookStorage failingStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_AD_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model,
+                new StorageManager(new AsyncAddressBookStorage(failingStorage), userPrefsStorage));
+        CompletableFuture<String> shownMessage = new CompletableFuture<>();
+        logic.addSaveFailureListener(shownMessage::complete);
+
+        // the command succeeds, as the address book is only written after it returns
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()),
+                shownMessage.get(10, TimeUnit.SECONDS));
+
+        // the failure has been shown, so it is not thrown by the next command
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandLeavesAddressBookUnchanged_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commands_recordsPhasesPerCommandWord() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), commandMetrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(1, commandMetrics.getDurations(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getDurations(ListCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, commandMetrics.getDurations(AddCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, commandMetrics.getDurations("delete", Phase.PARSE).getCount());
+        assertEquals(0, commandMetrics.getDurations("delete", Phase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getDurations("uicfhmowqewca", Phase.PARSE).getCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.AddAppointmentCommand.MESSAGE_APPOINTMENT_CONFLICT;
 import static seedu.address.logic.commands.AddAppointmentCommand.MESSAGE_DUPLICATE_APPOINTMENT;
 import static seedu.address.logic.commands.AddAppointmentCommand.MESSAGE_SUCCESS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -51,6 +52,32 @@ public class AddAppointmentCommandTest {
         assertThrows(CommandException.class, MESSAGE_DUPLICATE_APPOINTMENT, () -> command.execute(modelStub));
     }
 
+    @Test
+    public void execute_overlappingAppointment_throwsCommandException() {
+        Patient patient = new PatientBuilder().withName("Alice").build();
+        Patient otherPatient = new PatientBuilder().withName("Bob")
+                .withAppointment(FUTURE_DATE, "15:10").build();
+        ModelStubAcceptingAppointment modelStub = new ModelStubAcceptingAppointment(patient, otherPatient);
+        AddAppointmentCommand command = new AddAppointmentCommand(Index.fromOneBased(1), FUTURE_DATE, FUTURE_TIME);
+
+        assertThrows(CommandException.class, String.format(MESSAGE_APPOINTMENT_CONFLICT,
+                otherPatient.getName(), otherPatient.getAppointment()), () -> command.execute(modelStub));
+    }
+
+    @Test
+    public void execute_adjacentAppointment_success() throws Exception {
+        Patient patient = new PatientBuilder().withName("Alice").build();
+        Patient otherPatient = new PatientBuilder().withName("Bob")
+                .withAppointment(FUTURE_DATE, "15:00").build();
+        ModelStubAcceptingAppointment modelStub = new ModelStubAcceptingAppointment(patient, otherPatient);
+        AddAppointmentCommand command = new AddAppointmentCommand(Index.fromOneBased(1), FUTURE_DATE, FUTURE_TIME);
+
+        command.execute(modelStub);
+
+        Patient updatedPatient = (Patient) modelStub.getFilteredPersonList().get(0);
+        assertEquals(new Appointment(FUTURE_DATE, FUTURE_TIME), updatedPatient.getAppointment());
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         Patient patient = new PatientBuilder().build();
@@ -147,6 +174,17 @@ public class AddAppointmentCommandTest {
             throw new IllegalArgumentException("Date and time should be in the format dd-MM-yyyy HH:mm");
         }
 
+        @Override
+        public java.util.List<Person> getPersonsWithAppointmentsBetween(java.time.LocalDateTime start,
+                java.time.LocalDateTime end) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public java.util.List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+            throw new AssertionError();
+        }
+
         // The remaining methods are unsupported for this stub
         @Override
         public void setUserPrefs(seedu.address.model.ReadOnlyUserPrefs userPrefs) {
@@ -181,6 +219,14 @@ public class AddAppointmentCommandTest {
             throw new AssertionError();
         }
         @Override
+        public seedu.address.model.AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.AddressBookSnapshot getPublishedAddressBook() {
+            throw new AssertionError();
+        }
+        @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
         }
@@ -200,12 +246,41 @@ public class AddAppointmentCommandTest {
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
+        @Override
+        public void updateFilteredPersonListByName(
+                seedu.address.model.person.NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByNote(
+                seedu.address.model.person.NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByFilter(
+                seedu.address.model.person.PatientFilterPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByAppointment(
+                seedu.address.model.person.AppointmentBetweenPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public java.util.List<seedu.address.model.person.NoteMatch> getNoteMatches(Person person,
+                seedu.address.model.person.NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError();
+        }
     }
 
     private static class ModelStubAcceptingAppointment implements Model {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
-        private ModelStubAcceptingAppointment(Patient patient) {
-            this.persons.add(patient);
+        private ModelStubAcceptingAppointment(Patient... patients) {
+            this.persons.addAll(java.util.Arrays.asList(patients));
         }
 
         @Override
@@ -226,6 +301,20 @@ public class AddAppointmentCommandTest {
             return updated;
         }
 
+        @Override
+        public java.util.List<Person> getPersonsWithAppointmentsBetween(java.time.LocalDateTime start,
+                java.time.LocalDateTime end) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public java.util.List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+            return persons.stream()
+                    .filter(person -> person instanceof Patient patient && patient.getAppointment() != null
+                            && patient.getAppointment().overlaps(appointment))
+                    .toList();
+        }
+
         // The remaining methods are unsupported for this stub
         @Override
         public void setUserPrefs(seedu.address.model.ReadOnlyUserPrefs userPrefs) {
@@ -260,6 +349,14 @@ public class AddAppointmentCommandTest {
             throw new AssertionError();
         }
         @Override
+        public seedu.address.model.AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.AddressBookSnapshot getPublishedAddressBook() {
+            throw new AssertionError();
+        }
+        @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
         }
@@ -279,5 +376,34 @@ public class AddAppointmentCommandTest {
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
+        @Override
+        public void updateFilteredPersonListByName(
+                seedu.address.model.person.NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByNote(
+                seedu.address.model.person.NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByFilter(
+                seedu.address.model.person.PatientFilterPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateFilteredPersonListByAppointment(
+                seedu.address.model.person.AppointmentBetweenPredicate predicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public java.util.List<seedu.address.model.person.NoteMatch> getNoteMatches(Person person,
+                seedu.address.model.person.NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError();
+        }
     }
 }
@@ -9,8 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,9 +22,16 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -137,6 +146,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getPublishedAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -162,6 +181,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByNote(NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByFilter(PatientFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByAppointment(AppointmentBetweenPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<NoteMatch> getNoteMatches(Person person, NoteContainsPhrasePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasAppointment(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -171,6 +215,16 @@ public class AddCommandTest {
         public seedu.address.model.person.Patient addAppointment(Person person, String date, String time) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Person> getPersonsWithAppointmentsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithAppointmentsOverlapping(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class BatchCommandTest {
+
+    private static final Path FILE_PATH = Path.of("intake.txt");
+    private static final Patient CARL = new PatientBuilder().withName("Carl Kurz").withPhone("95352563")
+            .withAddress("wall street").build();
+
+    @Test
+    public void execute_allCommandsSucceed_appliesAll() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BatchCommand batchCommand = new BatchCommand(FILE_PATH, List.of(
+                new BatchCommand.Line(1, new AddCommand(CARL)),
+                new BatchCommand.Line(3, new NoteCommand(INDEX_FIRST_PERSON, new Note("Allergic to penicillin")))));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(CARL);
+        expectedModel.setPerson(ALICE, ALICE.addNote(new Note("Allergic to penicillin")));
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2, FILE_PATH),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BatchCommand batchCommand = new BatchCommand(FILE_PATH, List.of(
+                new BatchCommand.Line(1, new NoteCommand(INDEX_FIRST_PERSON, new Note("Allergic to penicillin"))),
+                new BatchCommand.Line(2, new AddCommand(CARL)),
+                new BatchCommand.Line(4, new AddCommand(CARL))));
+
+        assertCommandFailure(batchCommand, model,
+                String.format(BatchCommand.MESSAGE_LINE_FAILED, 4, AddCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void equals() {
+        List<BatchCommand.Line> lines = List.of(new BatchCommand.Line(1, new AddCommand(CARL)));
+        BatchCommand batchCommand = new BatchCommand(FILE_PATH, lines);
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(FILE_PATH, List.of(new BatchCommand.Line(1,
+                new AddCommand(CARL))))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Path.of("other.txt"), lines)));
+
+        // different line numbers -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(FILE_PATH, List.of(new BatchCommand.Line(2,
+                new AddCommand(CARL))))));
+    }
+}
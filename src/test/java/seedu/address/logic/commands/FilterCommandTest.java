@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.PatientFilterPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+
+    private static final Patient URGENT_TODAY = new PatientBuilder().withName("Alice Tan").withPhone("91111111")
+            .withTag("high").withAppointment("31-12-2099", "09:00").build();
+    private static final Patient URGENT = new PatientBuilder().withName("Bob Tan").withPhone("92222222")
+            .withTag("high").build();
+    private static final Patient MEDIUM_TODAY = new PatientBuilder().withName("Carol Lim").withPhone("93333333")
+            .withTag("medium").withAppointment("31-12-2099", "10:00").build();
+    private static final Patient LOW = new PatientBuilder().withName("Alice Lim").withPhone("94444444")
+            .withTag("low").build();
+
+    private static final Optional<LocalDate> DATE = Optional.of(LocalDate.of(2099, 12, 31));
+
+    private final Model model = new ModelManager(getTaggedAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTaggedAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PatientFilterPredicate firstPredicate =
+                new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), Optional.empty());
+        PatientFilterPredicate secondPredicate =
+                new PatientFilterPredicate(Set.of(Tag.of("low")), List.of(), Optional.empty());
+
+        FilterCommand filterFirstCommand = new FilterCommand(firstPredicate);
+        FilterCommand filterSecondCommand = new FilterCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_tags_patientsWithAnyTagFound() {
+        PatientFilterPredicate predicate =
+                new PatientFilterPredicate(Set.of(Tag.of("high"), Tag.of("medium")), List.of(), Optional.empty());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(URGENT_TODAY, URGENT, MEDIUM_TODAY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagsAndDate_patientsMatchingBothFound() {
+        PatientFilterPredicate predicate = new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), DATE);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(URGENT_TODAY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_nameAndDate_patientsMatchingBothFound() {
+        PatientFilterPredicate predicate = new PatientFilterPredicate(Set.of(), List.of("Lim"), DATE);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(MEDIUM_TODAY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noPatientMatchesAll_noPersonFound() {
+        PatientFilterPredicate predicate =
+                new PatientFilterPredicate(Set.of(Tag.of("low")), List.of("Tan"), Optional.empty());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_tagEditedAfterFilter_listUpdated() {
+        PatientFilterPredicate predicate =
+                new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), Optional.empty());
+        new FilterCommand(predicate).execute(model);
+        assertEquals(List.of(URGENT_TODAY, URGENT), model.getFilteredPersonList());
+
+        Patient retagged = new PatientBuilder(URGENT).withTag("low").build();
+        model.setPerson(URGENT, retagged);
+        assertEquals(List.of(URGENT_TODAY), model.getFilteredPersonList());
+
+        Patient escalated = new PatientBuilder(LOW).withTag("high").build();
+        model.setPerson(LOW, escalated);
+        assertEquals(List.of(URGENT_TODAY, escalated), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PatientFilterPredicate predicate =
+                new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), Optional.empty());
+        FilterCommand filterCommand = new FilterCommand(predicate);
+        String expected = FilterCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+
+    private static AddressBook getTaggedAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Patient patient : List.of(URGENT_TODAY, URGENT, MEDIUM_TODAY, LOW)) {
+            addressBook.addPerson(patient);
+        }
+        return addressBook;
+    }
+}
@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 
 
@@ -76,6 +78,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_foundPersonRenamed_filteredListUpdated() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        new FindCommand(predicate).execute(model);
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Tan").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Kurz").build();
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Arrays.asList(renamedElle, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ScheduleCommand}.
+ */
+public class ScheduleCommandTest {
+
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2099, 12, 31, 0, 0);
+
+    private static final Patient AFTERNOON = new PatientBuilder().withName("Afternoon Patient")
+            .withPhone("91234567").withAppointment("31-12-2099", "15:00").build();
+    private static final Patient MORNING = new PatientBuilder().withName("Morning Patient")
+            .withPhone("92345678").withAppointment("31-12-2099", "09:00").build();
+    private static final Patient NEXT_DAY = new PatientBuilder().withName("Next Day Patient")
+            .withPhone("93456789").withAppointment("01-01-2100", "09:00").build();
+    private static final Patient NO_APPOINTMENT = new PatientBuilder().withName("Unscheduled Patient")
+            .withPhone("94567890").build();
+
+    private final Model model = new ModelManager(getScheduledAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getScheduledAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AppointmentBetweenPredicate firstPredicate = new AppointmentBetweenPredicate(DAY_START, DAY_START.plusDays(1));
+        AppointmentBetweenPredicate secondPredicate = new AppointmentBetweenPredicate(DAY_START,
+                DAY_START.plusHours(12));
+
+        ScheduleCommand scheduleFirstCommand = new ScheduleCommand(firstPredicate);
+        ScheduleCommand scheduleSecondCommand = new ScheduleCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(scheduleFirstCommand.equals(scheduleFirstCommand));
+
+        // same values -> returns true
+        assertTrue(scheduleFirstCommand.equals(new ScheduleCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(scheduleFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(scheduleFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(scheduleFirstCommand.equals(scheduleSecondCommand));
+    }
+
+    @Test
+    public void execute_wholeDay_listsAppointmentsInOrder() {
+        AppointmentBetweenPredicate predicate = new AppointmentBetweenPredicate(DAY_START, DAY_START.plusDays(1));
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, "31-12-2099 00:00",
+                "01-01-2100 00:00")
+                + "\n" + MORNING.getAppointment() + ": " + MORNING.getName()
+                + "\n" + AFTERNOON.getAppointment() + ": " + AFTERNOON.getName();
+        expectedModel.updateFilteredPersonListByAppointment(predicate);
+
+        assertCommandSuccess(new ScheduleCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(MORNING, AFTERNOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noAppointmentsInRange_noPersonFound() {
+        AppointmentBetweenPredicate predicate = new AppointmentBetweenPredicate(DAY_START.plusHours(10),
+                DAY_START.plusHours(12));
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SUCCESS, 0, "31-12-2099 10:00",
+                "31-12-2099 12:00");
+        expectedModel.updateFilteredPersonListByAppointment(predicate);
+
+        assertCommandSuccess(new ScheduleCommand(predicate), model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_appointmentRescheduled_keepsAppointmentOrder() {
+        AppointmentBetweenPredicate predicate = new AppointmentBetweenPredicate(DAY_START, DAY_START.plusDays(1));
+        new ScheduleCommand(predicate).execute(model);
+
+        Patient rescheduledMorning = new PatientBuilder(MORNING).withAppointment("31-12-2099", "17:00").build();
+        model.setPerson(MORNING, rescheduledMorning);
+        assertEquals(List.of(AFTERNOON, rescheduledMorning), model.getFilteredPersonList());
+
+        Patient scheduledPatient = new PatientBuilder(NO_APPOINTMENT).withAppointment("31-12-2099", "08:00").build();
+        model.setPerson(NO_APPOINTMENT, scheduledPatient);
+        assertEquals(List.of(scheduledPatient, AFTERNOON, rescheduledMorning), model.getFilteredPersonList());
+
+        Patient movedAfternoon = new PatientBuilder(AFTERNOON).withAppointment("01-01-2100", "15:00").build();
+        model.setPerson(AFTERNOON, movedAfternoon);
+        assertEquals(List.of(scheduledPatient, rescheduledMorning), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        AppointmentBetweenPredicate predicate = new AppointmentBetweenPredicate(DAY_START, DAY_START.plusDays(1));
+        ScheduleCommand scheduleCommand = new ScheduleCommand(predicate);
+        String expected = ScheduleCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, scheduleCommand.toString());
+    }
+
+    private static AddressBook getScheduledAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Patient patient : List.of(AFTERNOON, MORNING, NEXT_DAY, NO_APPOINTMENT)) {
+            addressBook.addPerson(patient);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.NoteMatch;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+
+    private static final Patient DIABETIC = new PatientBuilder().withName("Diabetic Patient")
+            .withPhone("91234567").withNote("Started on insulin").build()
+            .addNote(new Note("Peanut allergy"))
+            .addNote(new Note("Insulin dose increased, insulin pump fitted"));
+    private static final Patient ALLERGIC = new PatientBuilder().withName("Allergic Patient")
+            .withPhone("92345678").withNote("Penicillin allergy").build();
+    private static final Patient NO_NOTES = new PatientBuilder().withName("New Patient")
+            .withPhone("93456789").build();
+
+    private final Model model = new ModelManager(getNotedAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getNotedAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NoteContainsPhrasePredicate firstPredicate = new NoteContainsPhrasePredicate("insulin");
+        NoteContainsPhrasePredicate secondPredicate = new NoteContainsPhrasePredicate("allergy");
+
+        SearchCommand searchFirstCommand = new SearchCommand(firstPredicate);
+        SearchCommand searchSecondCommand = new SearchCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different phrase -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_phraseInNotes_listsPatientsWithHighlightedNotes() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("insulin");
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 1, "insulin")
+                + "\n" + DIABETIC.getName() + ": Started on [insulin]"
+                + "\n" + DIABETIC.getName() + ": [Insulin] dose increased, [insulin] pump fitted";
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new SearchCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(DIABETIC), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phraseInSeveralPatients_listsAllPatients() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("allergy");
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2, "allergy")
+                + "\n" + DIABETIC.getName() + ": Peanut [allergy]"
+                + "\n" + ALLERGIC.getName() + ": Penicillin [allergy]";
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new SearchCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_phraseNotInNotes_noPersonFound() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("insulin allergy");
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 0, "insulin allergy");
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertCommandSuccess(new SearchCommand(predicate), model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_noteAddedAfterSearch_patientListed() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("penicillin");
+        new SearchCommand(predicate).execute(model);
+        assertEquals(List.of(ALLERGIC), model.getFilteredPersonList());
+
+        Patient noted = NO_NOTES.addNote(new Note("Avoid penicillin"));
+        model.setPerson(NO_NOTES, noted);
+        assertEquals(List.of(ALLERGIC, noted), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void highlight() {
+        assertEquals("no matches", SearchCommand.highlight("no matches", List.of()));
+        assertEquals("[ab] c [de]", SearchCommand.highlight("ab c de",
+                List.of(new NoteMatch(0, 0, 2), new NoteMatch(0, 5, 7))));
+        // overlapping matches are highlighted as one
+        assertEquals("[a a a] b", SearchCommand.highlight("a a a b",
+                List.of(new NoteMatch(0, 0, 3), new NoteMatch(0, 2, 5))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("insulin");
+        SearchCommand searchCommand = new SearchCommand(predicate);
+        String expected = SearchCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, searchCommand.toString());
+    }
+
+    private static AddressBook getNotedAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Patient patient : List.of(DIABETIC, ALLERGIC, NO_NOTES)) {
+            addressBook.addPerson(patient);
+        }
+        return addressBook;
+    }
+}
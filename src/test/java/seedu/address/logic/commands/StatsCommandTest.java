@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsSummary() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
+        recording.endPhase(CommandMetrics.Phase.PARSE);
+        recording.finish(ListCommand.COMMAND_WORD);
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+    }
+}
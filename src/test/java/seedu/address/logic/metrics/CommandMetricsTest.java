@@ -0,0 +1,47 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void finish_recordsEndedPhasesOnly() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
+        recording.endPhase(Phase.PARSE);
+        recording.endPhase(Phase.EXECUTE);
+        recording.finish("list");
+
+        assertEquals(1, commandMetrics.getDurations("list", Phase.PARSE).getCount());
+        assertEquals(1, commandMetrics.getDurations("list", Phase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getDurations("list", Phase.SAVE).getCount());
+        assertEquals(0, commandMetrics.getDurations("find", Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void getSummary_noCommands() {
+        assertEquals("No commands recorded", new CommandMetrics().getSummary());
+    }
+
+    @Test
+    public void getSummary_oneLinePerCommandWordInOrder() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        for (String commandWord : new String[] {"list", "add", "list"}) {
+            CommandMetrics.Recording recording = commandMetrics.startRecording();
+            recording.endPhase(Phase.PARSE);
+            recording.finish(commandWord);
+        }
+
+        String[] lines = commandMetrics.getSummary().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("add: 1, parse "));
+        assertTrue(lines[2].startsWith("list: 2, parse "));
+        assertTrue(lines[2].contains(", save - | -"));
+    }
+}
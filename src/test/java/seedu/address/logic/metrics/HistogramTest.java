@@ -0,0 +1,71 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 4; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(2, histogram.getValueAtPercentile(50));
+        assertEquals(4, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinBucketPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertWithinPrecision(500_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(990_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(1_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        Histogram histogram = new Histogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+    }
+
+    @Test
+    public void toBucket_bucketBoundsContainValue() {
+        for (long value : new long[] {0, 7, 8, 9, 15, 16, 17, 1023, 1024, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = Histogram.toBucket(value);
+            assertTrue(value <= Histogram.getBucketUpperBound(bucket));
+            assertTrue(bucket == 0 || value > Histogram.getBucketUpperBound(bucket - 1));
+        }
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, "expected about " + expected + ": " + actual);
+    }
+}
@@ -7,26 +7,41 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AppointmentBetweenPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -35,6 +50,9 @@ import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
+    @TempDir
+    public Path testFolder;
+
     private final AddressBookParser parser = new AddressBookParser();
 
     @Test
@@ -100,6 +118,48 @@ public class AddressBookParserTest {
         assertEquals(expectedCommand, command);
     }
 
+    @Test
+    public void parseCommand_schedule() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2099, 12, 31, 9, 0);
+        ScheduleCommand command = (ScheduleCommand) parser.parseCommand(
+                ScheduleCommand.COMMAND_WORD + " d/31-12-2099 from/09:00");
+        assertEquals(new ScheduleCommand(new AppointmentBetweenPredicate(start, start.plusHours(15))), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " tag/high n/Alice");
+        assertEquals(new FilterCommand(new PatientFilterPredicate(Set.of(Tag.of("high")), List.of("Alice"),
+                Optional.empty())), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " blood sugar");
+        assertEquals(new SearchCommand(new NoteContainsPhrasePredicate("blood sugar")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        Path filePath = testFolder.resolve("intake.txt");
+        Files.write(filePath, List.of(ListCommand.COMMAND_WORD));
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " " + filePath);
+        assertTrue(command.toString().contains(filePath.toString()));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", AddressBookParser.getCommandWord("  find alice bob"));
+        assertEquals("list", AddressBookParser.getCommandWord("list"));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.NoteCommand;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class BatchCommandParserTest {
+
+    private static final Patient CARL = new PatientBuilder().withName("Carl Kurz").withPhone("95352563")
+            .withAddress("wall street").withTag("high").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws Exception {
+        Path filePath = testFolder.resolve("intake.txt");
+        Files.write(filePath, List.of(
+                "# new patients",
+                "add n/Carl Kurz p/95352563 a/wall street tag/high",
+                "",
+                "  note 1 note/Allergic to penicillin  "));
+
+        BatchCommand expectedCommand = new BatchCommand(filePath, List.of(
+                new BatchCommand.Line(2, new AddCommand(CARL)),
+                new BatchCommand.Line(4, new NoteCommand(INDEX_FIRST_PERSON, new Note("Allergic to penicillin")))));
+        assertParseSuccess(parser, " " + filePath, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLines_reportsEveryLine() throws Exception {
+        Path filePath = testFolder.resolve("intake.txt");
+        Files.write(filePath, List.of(
+                "add n/Carl Kurz p/95352563 a/wall street",
+                "unknown 1",
+                "batch other.txt",
+                "exit"));
+
+        String expectedMessage = String.join("\n",
+                String.format(BatchCommandParser.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND),
+                String.format(BatchCommandParser.MESSAGE_LINE_ERROR, 3,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, BatchCommand.COMMAND_WORD)),
+                String.format(BatchCommandParser.MESSAGE_LINE_ERROR, 4,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, "exit")));
+        assertParseFailure(parser, filePath.toString(), expectedMessage);
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() throws Exception {
+        Path filePath = testFolder.resolve("empty.txt");
+        Files.write(filePath, List.of("# nothing to do", ""));
+
+        assertParseFailure(parser, filePath.toString(),
+                String.format(BatchCommandParser.MESSAGE_NO_COMMANDS, filePath));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path filePath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, filePath.toString(),
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_FILE, filePath));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.PatientFilterPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noCriteria_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " high", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, " high tag/high", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " tag/urgent", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/betty1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/ ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " d/2099-12-31", Appointment.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefixes_failure() {
+        assertParseFailure(parser, " n/Alice n/Bob",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_NAME));
+        assertParseFailure(parser, " d/31-12-2099 d/01-01-2100",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DATE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        // tags only
+        assertParseSuccess(parser, " tag/high tag/Medium", new FilterCommand(new PatientFilterPredicate(
+                Set.of(Tag.of("high"), Tag.of("medium")), List.of(), Optional.empty())));
+
+        // name keywords only, with multiple whitespaces between them
+        assertParseSuccess(parser, " n/ Alice \t Bob ", new FilterCommand(new PatientFilterPredicate(
+                Set.of(), List.of("Alice", "Bob"), Optional.empty())));
+
+        // all criteria
+        assertParseSuccess(parser, " tag/high n/Alice d/31-12-2099", new FilterCommand(new PatientFilterPredicate(
+                Set.of(Tag.of("high")), List.of("Alice"), Optional.of(LocalDate.of(2099, 12, 31)))));
+    }
+}
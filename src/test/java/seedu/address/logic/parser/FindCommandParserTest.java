@@ -2,14 +2,17 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
 
 
 
@@ -36,6 +39,32 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // exact mode given
+        assertParseSuccess(parser, " Alice Bob mode/exact", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_validArgsWithMode_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alce", "Bob"), NameMatchMode.FUZZY));
+        assertParseSuccess(parser, " Alce Bob mode/fuzzy", expectedFindCommand);
+        assertParseSuccess(parser, " Alce Bob mode/ FUZZY ", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Ali"), NameMatchMode.PREFIX));
+        assertParseSuccess(parser, " Ali mode/prefix", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, " Alice mode/closest", NameMatchMode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Alice mode/", NameMatchMode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Alice mode/fuzzy mode/prefix",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_MODE));
+        // keywords must come before the mode
+        assertParseFailure(parser, " mode/fuzzy Alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameMatchMode;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
@@ -167,6 +168,24 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseNameMatchMode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseNameMatchMode(null));
+    }
+
+    @Test
+    public void parseNameMatchMode_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, NameMatchMode.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseNameMatchMode("closest"));
+    }
+
+    @Test
+    public void parseNameMatchMode_validValue_returnsMode() throws Exception {
+        assertEquals(NameMatchMode.FUZZY, ParserUtil.parseNameMatchMode("fuzzy"));
+        assertEquals(NameMatchMode.PREFIX, ParserUtil.parseNameMatchMode(WHITESPACE + "Prefix" + WHITESPACE));
+        assertEquals(NameMatchMode.EXACT, ParserUtil.parseNameMatchMode("EXACT"));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
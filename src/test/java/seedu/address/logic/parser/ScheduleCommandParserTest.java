@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentBetweenPredicate;
+
+public class ScheduleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2099, 12, 31, 0, 0);
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_dateOnly_wholeDay() {
+        assertParseSuccess(parser, " d/31-12-2099",
+                new ScheduleCommand(new AppointmentBetweenPredicate(DAY_START, DAY_START.plusDays(1))));
+    }
+
+    @Test
+    public void parse_timeRange_success() {
+        assertParseSuccess(parser, " d/31-12-2099 from/09:00 to/12:30", new ScheduleCommand(
+                new AppointmentBetweenPredicate(DAY_START.withHour(9), DAY_START.withHour(12).withMinute(30))));
+        assertParseSuccess(parser, " d/31-12-2099 from/09:00",
+                new ScheduleCommand(new AppointmentBetweenPredicate(DAY_START.withHour(9), DAY_START.plusDays(1))));
+        assertParseSuccess(parser, " d/31-12-2099 to/12:00",
+                new ScheduleCommand(new AppointmentBetweenPredicate(DAY_START, DAY_START.withHour(12))));
+    }
+
+    @Test
+    public void parse_missingDate_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/09:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "31-12-2099", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " d/2099-12-31", Appointment.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/31-12-2099 from/9am", Appointment.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/31-12-2099 from/12:00 to/09:00", ScheduleCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " d/31-12-2099 from/12:00 to/12:00", ScheduleCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " d/31-12-2099 d/01-01-2100",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DATE));
+    }
+}
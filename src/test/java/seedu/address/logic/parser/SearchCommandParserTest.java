@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_onlyStopwords_throwsParseException() {
+        assertParseFailure(parser, " of the", NoteContainsPhrasePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ...", NoteContainsPhrasePredicate.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand = new SearchCommand(new NoteContainsPhrasePredicate("blood sugar"));
+        assertParseSuccess(parser, "blood sugar", expectedSearchCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \n blood sugar \t", expectedSearchCommand);
+    }
+}
@@ -82,6 +82,17 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_addressBookModifiedAfterwards_unchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertTrue(addressBook.getVersion() > snapshot.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
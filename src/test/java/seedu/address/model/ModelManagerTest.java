@@ -3,15 +3,25 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,11 +30,16 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Appointment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.NoteContainsPhrasePredicate;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.PatientFilterPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 
 
@@ -105,6 +120,51 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getPublishedAddressBook_unchanged_returnsSameCopy() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot published = modelManager.getPublishedAddressBook();
+        assertSame(published, modelManager.getPublishedAddressBook());
+
+        modelManager.addPerson(BENSON);
+        AddressBookSnapshot republished = modelManager.getPublishedAddressBook();
+        assertEquals(Arrays.asList(ALICE), published.getPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), republished.getPersonList());
+    }
+
+    @Test
+    public void getPublishedAddressBook_readWhileModified_consistentCopies() throws Exception {
+        int personCount = 2000;
+        AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+        AtomicBoolean isDone = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            try {
+                int lastSize = 0;
+                while (!isDone.get()) {
+                    List<Person> persons = modelManager.getPublishedAddressBook().getPersonList();
+                    assertTrue(persons.size() >= lastSize);
+                    for (int i = 0; i < persons.size(); i++) {
+                        assertEquals("Person " + i, persons.get(i).getName().fullName);
+                    }
+                    lastSize = persons.size();
+                }
+            } catch (Throwable e) {
+                readerFailure.set(e);
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < personCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build());
+        }
+        isDone.set(true);
+        reader.join();
+
+        assertEquals(null, readerFailure.get());
+        assertEquals(personCount, modelManager.getPublishedAddressBook().getPersonList().size());
+    }
+
     @Test
     public void hasAppointment_patientWithAppointment_returnsTrue() {
         Patient patientWithAppointment = new PatientBuilder()
@@ -163,6 +223,116 @@ public class ModelManagerTest {
         assertFalse(manager.hasAppointment(nonPatient));
     }
 
+    @Test
+    public void updateFilteredPersonListByName_refinedKeywords_showsMatchingPersons() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("Meier", "Alice")));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons edited after the search are filtered by their new name
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        modelManager.setPerson(DANIEL, editedDaniel);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("Meier", "Tan")));
+        assertEquals(List.of(BENSON, editedDaniel), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_addressBookModified_keepsMatchesInAddressBookOrder() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // a person edited into a match is shown in their place in the address book
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        modelManager.setPerson(DANIEL, editedDaniel);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+
+        // replacing the address book searches it again
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(DANIEL).withPerson(BENSON).build());
+        assertEquals(List.of(DANIEL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByFilter_addressBookModified_keepsMatchesInAddressBookOrder() {
+        Patient amy = new PatientBuilder().withName("Amy Bee").withTag("high").withNote("chest pain").build();
+        Patient bob = new PatientBuilder().withName("Bob Choo").withTag("low").withNote("chest pain").build();
+        Patient carl = new PatientBuilder().withName("Carl Dee").withTag("high").build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(amy).withPerson(bob).withPerson(carl)
+                .build(), new UserPrefs());
+
+        modelManager.updateFilteredPersonListByFilter(
+                new PatientFilterPredicate(Set.of(new Tag("high")), List.of(), Optional.empty()));
+        assertEquals(List.of(amy, carl), modelManager.getFilteredPersonList());
+
+        Patient editedBob = new PatientBuilder(bob).withTag("high").build();
+        modelManager.setPerson(bob, editedBob);
+        assertEquals(List.of(amy, editedBob, carl), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByNote(new NoteContainsPhrasePredicate("chest pain"));
+        assertEquals(List.of(amy, editedBob), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(amy);
+        assertEquals(List.of(editedBob), modelManager.getFilteredPersonList());
+
+        // adding a person shows all persons again
+        Patient dan = new PatientBuilder().withName("Dan Eng").build();
+        modelManager.addPerson(dan);
+        assertEquals(List.of(editedBob, carl, dan), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_fuzzyMode_showsClosestMatchesFirst() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateFilteredPersonListByName(
+                new NameContainsKeywordsPredicate(List.of("Meyer", "Elle"), NameMatchMode.FUZZY));
+        assertEquals(List.of(ELLE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons edited after the search are ranked by their new name
+        Person editedBenson = new PersonBuilder(BENSON).withName("Elle Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ELLE, editedBenson, DANIEL), modelManager.getFilteredPersonList());
+
+        // showing all persons restores their order in the address book
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(addressBook.getPersonList().size(), modelManager.getFilteredPersonList().size());
+        assertEquals(ALICE, modelManager.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_prefixMode_showsShortestCompletionsFirst() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateFilteredPersonListByName(
+                new NameContainsKeywordsPredicate(List.of("Be"), NameMatchMode.PREFIX));
+        assertEquals(List.of(GEORGE, BENSON), modelManager.getFilteredPersonList());
+
+        // equally close matches keep their order in the address book
+        modelManager.updateFilteredPersonListByName(
+                new NameContainsKeywordsPredicate(List.of("Me"), NameMatchMode.PREFIX));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
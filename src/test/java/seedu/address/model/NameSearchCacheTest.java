@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
+import seedu.address.model.person.Person;
+
+public class NameSearchCacheTest {
+
+    private final CountingAddressBook addressBook = new CountingAddressBook();
+    private final NameSearchCache cache = new NameSearchCache(addressBook);
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(addressBook::addPerson);
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.find(null));
+    }
+
+    @Test
+    public void find_repeatedSearch_reusesMatches() {
+        NameSearchCache.Matches matches = assertMatches(List.of("Meier"), NameMatchMode.EXACT);
+        assertSame(matches, assertMatches(List.of(" MEIER"), NameMatchMode.EXACT));
+        assertEquals(1, addressBook.lookUpCount);
+
+        // the same keywords in another mode are another search
+        assertMatches(List.of("Meier"), NameMatchMode.PREFIX);
+        assertEquals(2, addressBook.lookUpCount);
+    }
+
+    @Test
+    public void find_narrowedExactSearch_refinesEarlierMatches() {
+        assertMatches(List.of("Meier", "Alice", "Kurz"), NameMatchMode.EXACT);
+        assertMatches(List.of("meier", "alice"), NameMatchMode.EXACT);
+        assertMatches(List.of("Kurz"), NameMatchMode.EXACT);
+        assertEquals(1, addressBook.lookUpCount);
+
+        // adding a keyword widens a search under any-of matching
+        assertMatches(List.of("Meier", "Tan"), NameMatchMode.EXACT);
+        assertEquals(2, addressBook.lookUpCount);
+    }
+
+    @Test
+    public void find_narrowedPrefixSearch_refinesEarlierMatches() {
+        assertMatches(List.of("Me"), NameMatchMode.PREFIX);
+        assertMatches(List.of("Meier"), NameMatchMode.PREFIX);
+        assertMatches(List.of("mei", "meyer"), NameMatchMode.PREFIX);
+        assertEquals(1, addressBook.lookUpCount);
+
+        // a keyword that does not start with an earlier keyword may match other words
+        assertMatches(List.of("Meier", "Alice"), NameMatchMode.PREFIX);
+        assertEquals(2, addressBook.lookUpCount);
+    }
+
+    @Test
+    public void find_fuzzySearch_neverRefinesEarlierMatches() {
+        assertMatches(List.of("Meier"), NameMatchMode.FUZZY);
+        assertMatches(List.of("Meyer"), NameMatchMode.FUZZY);
+        assertEquals(2, addressBook.lookUpCount);
+    }
+
+    @Test
+    public void find_moreThanMaxEntries_forgetsLeastRecentlyUsed() {
+        assertMatches(List.of("Meier"), NameMatchMode.EXACT);
+        for (int i = 0; i < NameSearchCache.MAX_ENTRIES; i++) {
+            assertMatches(List.of("Keyword" + i), NameMatchMode.FUZZY);
+        }
+        int lookUpCount = addressBook.lookUpCount;
+
+        assertMatches(List.of("Meier"), NameMatchMode.EXACT);
+        assertEquals(lookUpCount + 1, addressBook.lookUpCount);
+    }
+
+    @Test
+    public void find_afterClear_looksUpModifiedAddressBook() {
+        assertMatches(List.of("Meier"), NameMatchMode.EXACT);
+
+        addressBook.addPerson(HOON);
+        cache.clear();
+        assertMatches(List.of("Meier"), NameMatchMode.EXACT);
+        assertMatches(List.of("meier"), NameMatchMode.EXACT);
+        assertEquals(2, addressBook.lookUpCount);
+    }
+
+    /**
+     * Asserts that the persons found by {@code cache} for {@code keywords} in {@code mode} are those accepted by a
+     * {@code NameContainsKeywordsPredicate}, in the order of the address book, with the costs it gives them.
+     */
+    private NameSearchCache.Matches assertMatches(List<String> keywords, NameMatchMode mode) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords, mode);
+        NameSearchCache.Matches matches = cache.find(predicate);
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).toList(), matches.persons());
+        if (mode != NameMatchMode.EXACT) {
+            for (Person person : matches.persons()) {
+                assertEquals(predicate.getMatchCost(person), (int) matches.costs().get(person));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * An address book that counts how many name searches are looked up in its name index.
+     */
+    private static class CountingAddressBook extends AddressBook {
+        private int lookUpCount;
+
+        @Override
+        public List<Person> getPersonsWithNameContainingAnyOf(Collection<String> keywords) {
+            lookUpCount++;
+            return super.getPersonsWithNameContainingAnyOf(keywords);
+        }
+
+        @Override
+        public Map<Person, Integer> getNameMatchCosts(Collection<String> keywords, NameMatchMode mode) {
+            lookUpCount++;
+            return super.getNameMatchCosts(keywords, mode);
+        }
+    }
+}
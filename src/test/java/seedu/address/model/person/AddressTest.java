@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -21,6 +23,14 @@ public class AddressTest {
         assertThrows(IllegalArgumentException.class, () -> new Address(invalidAddress));
     }
 
+    @Test
+    public void of_equalAddresses_returnsSameInstance() {
+        Address address = Address.of(new String("Blk 456, Den Road, #01-355"));
+        assertSame(address, Address.of(new String("Blk 456, Den Road, #01-355")));
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), address);
+        assertThrows(IllegalArgumentException.class, () -> Address.of(" "));
+    }
+
     @Test
     public void isValidAddress() {
         // null address
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+
+public class AppointmentIndexTest {
+
+    private static final Patient MORNING = new PatientBuilder().withName("Morning")
+            .withAppointment("31-12-2099", "09:00").build();
+    private static final Patient NOON = new PatientBuilder().withName("Noon")
+            .withAppointment("31-12-2099", "12:00").build();
+    private static final Patient NOON_TOO = new PatientBuilder().withName("Noon Too")
+            .withAppointment("31-12-2099", "12:00").build();
+    private static final Patient NEXT_DAY = new PatientBuilder().withName("Next Day")
+            .withAppointment("01-01-2100", "00:00").build();
+    private static final Patient NO_APPOINTMENT = new PatientBuilder().withName("None").build();
+
+    private final AppointmentIndex index = new AppointmentIndex();
+
+    @Test
+    public void getPersonsBetween_returnsPersonsInStartOrder() {
+        index.add(NEXT_DAY);
+        index.add(NOON);
+        index.add(MORNING);
+        index.add(NO_APPOINTMENT);
+
+        LocalDateTime start = LocalDateTime.of(2099, 12, 31, 0, 0);
+        assertEquals(List.of(MORNING, NOON), index.getPersonsBetween(start, start.plusDays(1)));
+        assertEquals(List.of(NOON), index.getPersonsBetween(start.withHour(9).withMinute(1), start.withHour(12)
+                .withMinute(1)));
+        assertTrue(index.getPersonsBetween(start.withHour(9).withMinute(1), start.withHour(12)).isEmpty());
+    }
+
+    @Test
+    public void remove_sameStart_removesOnlyGivenPerson() {
+        index.add(NOON);
+        index.add(NOON_TOO);
+
+        index.remove(NOON);
+        index.remove(NO_APPOINTMENT);
+
+        LocalDateTime start = LocalDateTime.of(2099, 12, 31, 0, 0);
+        assertEquals(List.of(NOON_TOO), index.getPersonsBetween(start, start.plusDays(1)));
+    }
+
+    @Test
+    public void getPersonsOverlapping_withinSlot_returnsPersons() {
+        index.add(MORNING);
+        index.add(NOON);
+
+        assertEquals(List.of(NOON), index.getPersonsOverlapping(new Appointment("31-12-2099", "11:31")));
+        assertEquals(List.of(NOON), index.getPersonsOverlapping(new Appointment("31-12-2099", "12:29")));
+        assertTrue(index.getPersonsOverlapping(new Appointment("31-12-2099", "11:30")).isEmpty());
+        assertTrue(index.getPersonsOverlapping(new Appointment("31-12-2099", "09:30")).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(MORNING);
+        index.clear();
+
+        LocalDateTime start = LocalDateTime.of(2099, 12, 31, 0, 0);
+        assertTrue(index.getPersonsBetween(start, start.plusDays(1)).isEmpty());
+    }
+}
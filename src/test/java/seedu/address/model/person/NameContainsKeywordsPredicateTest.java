@@ -39,6 +39,10 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different mode -> returns false
+        assertFalse(firstPredicate.equals(
+                new NameContainsKeywordsPredicate(firstPredicateKeywordList, NameMatchMode.FUZZY)));
     }
 
     @Test
@@ -76,12 +80,53 @@ public class NameContainsKeywordsPredicateTest {
                 .withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_prefixMode() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("ali", "Zed"), NameMatchMode.PREFIX);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Ali").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Kali").build()));
+    }
+
+    @Test
+    public void test_fuzzyMode() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("Alce"), NameMatchMode.FUZZY);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alce").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alicia Bob").build()));
+
+        // short keywords must match exactly
+        predicate = new NameContainsKeywordsPredicate(List.of("Al"), NameMatchMode.FUZZY);
+        assertTrue(predicate.test(new PersonBuilder().withName("Al Bob").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali Bob").build()));
+    }
+
+    @Test
+    public void getMatchCost() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("Alce", "bob"), NameMatchMode.FUZZY);
+        assertEquals(0, predicate.getMatchCost(new PersonBuilder().withName("Alce Bob").build()));
+        assertEquals(1, predicate.getMatchCost(new PersonBuilder().withName("Alice Bob").build()));
+        // the closest word is used for each keyword
+        assertEquals(1, predicate.getMatchCost(new PersonBuilder().withName("Alice Bobb Bob").build()));
+        // missing a keyword costs more than any mistakes
+        assertEquals(NameMatchMode.MISSED_KEYWORD_COST,
+                predicate.getMatchCost(new PersonBuilder().withName("Alce Carol").build()));
+        assertEquals(NameMatchMode.NO_MATCH, predicate.getMatchCost(new PersonBuilder().withName("Carol").build()));
+
+        predicate = new NameContainsKeywordsPredicate(List.of("al", "AL"), NameMatchMode.PREFIX);
+        assertEquals(3, predicate.getMatchCost(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
 
-        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", mode=exact}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -40,6 +42,29 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        String[] names = {"", " ", "a", "Z", "9", " a", "a ", "a  b", "a\tb", "\ta", "a\nb", "a-b", "o'neil",
+            "\u00e9mile", "Jos\u00e9", "\u0661\u0662", "a\u00a0b", "_a"};
+        for (String name : names) {
+            assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name);
+        }
+    }
+
+    @Test
+    public void constructor_validName_titleCased() {
+        assertEquals("John Doe", new Name("john  DOE ").fullName);
+        assertEquals("Peter The 2nd", new Name("peter the 2nd").fullName);
+        assertEquals("2nd Peter", new Name("2ND PETER").fullName);
+        assertEquals("A B", new Name("a b").fullName);
+    }
+
+    @Test
+    public void constructor_titleCasedName_notCopied() {
+        String name = "John Doe";
+        assertSame(name, new Name(name).fullName);
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+
+    @Test
+    public void toToken() {
+        assertEquals("alice", NameTokenIndex.toToken(" ALIce "));
+    }
+
+    @Test
+    public void contains_wordOfName_returnsTrue() {
+        nameIndex.add(ALICE);
+        assertTrue(nameIndex.contains("alice", ALICE));
+        assertTrue(nameIndex.contains("pauline", ALICE));
+        assertFalse(nameIndex.contains("alic", ALICE));
+        assertFalse(nameIndex.contains("kurz", ALICE));
+    }
+
+    @Test
+    public void contains_equalPersonNotIndexed_returnsFalse() {
+        nameIndex.add(CARL);
+        assertFalse(nameIndex.contains("carl", new PersonBuilder(CARL).build()));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerContained() {
+        nameIndex.add(ALICE);
+        nameIndex.add(CARL);
+        nameIndex.remove(ALICE);
+        assertFalse(nameIndex.contains("alice", ALICE));
+        assertTrue(nameIndex.contains("carl", CARL));
+
+        nameIndex.clear();
+        assertFalse(nameIndex.contains("carl", CARL));
+    }
+
+    @Test
+    public void getMatchCosts_sameAsPredicate() {
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        persons.forEach(nameIndex::add);
+        nameIndex.add(HOON);
+        nameIndex.remove(HOON);
+
+        for (NameMatchMode mode : NameMatchMode.values()) {
+            for (List<String> keywords : List.of(List.of("Meier"), List.of("meir", "kurz"), List.of("Mei", "AL"),
+                    List.of("hoon"), List.of("Alice", "alice", "Paulina"))) {
+                NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords, mode);
+                Map<Person, Integer> expected = new HashMap<>();
+                for (Person person : persons) {
+                    if (predicate.test(person)) {
+                        expected.put(person, predicate.getMatchCost(person));
+                    }
+                }
+                assertEquals(expected, new HashMap<>(nameIndex.getMatchCosts(keywords, mode)), mode + " " + keywords);
+            }
+        }
+    }
+}
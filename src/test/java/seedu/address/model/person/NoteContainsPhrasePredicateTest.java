@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class NoteContainsPhrasePredicateTest {
+
+    @Test
+    public void constructor_invalidPhrase_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new NoteContainsPhrasePredicate(null));
+        assertThrows(IllegalArgumentException.class, () -> new NoteContainsPhrasePredicate(" "));
+        assertThrows(IllegalArgumentException.class, () -> new NoteContainsPhrasePredicate("of the"));
+    }
+
+    @Test
+    public void isValidPhrase() {
+        assertFalse(NoteContainsPhrasePredicate.isValidPhrase(""));
+        assertFalse(NoteContainsPhrasePredicate.isValidPhrase("!?"));
+        assertFalse(NoteContainsPhrasePredicate.isValidPhrase("The"));
+        assertTrue(NoteContainsPhrasePredicate.isValidPhrase("insulin"));
+        assertTrue(NoteContainsPhrasePredicate.isValidPhrase("of the insulin"));
+        assertTrue(NoteContainsPhrasePredicate.isValidPhrase("2x"));
+    }
+
+    @Test
+    public void equals() {
+        NoteContainsPhrasePredicate firstPredicate = new NoteContainsPhrasePredicate("insulin");
+        NoteContainsPhrasePredicate secondPredicate = new NoteContainsPhrasePredicate("blood sugar");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NoteContainsPhrasePredicate("insulin")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different phrase -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_noteContainsPhrase_returnsTrue() {
+        Patient patient = new PatientBuilder().withNote("Checked Blood-Sugar twice").build();
+        assertTrue(new NoteContainsPhrasePredicate("blood sugar").test(patient));
+        assertTrue(new NoteContainsPhrasePredicate("CHECKED").test(patient));
+        assertTrue(new NoteContainsPhrasePredicate("the blood sugar").test(patient));
+    }
+
+    @Test
+    public void test_noteDoesNotContainPhrase_returnsFalse() {
+        Patient patient = new PatientBuilder().withNote("Sugar intake, blood pressure").build();
+        assertFalse(new NoteContainsPhrasePredicate("blood sugar").test(patient));
+        assertFalse(new NoteContainsPhrasePredicate("bloo").test(patient));
+        assertFalse(new NoteContainsPhrasePredicate("blood sugar").test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void getMatches() {
+        Patient patient = new PatientBuilder().withNote("Blood sugar low").build()
+                .addNote(new Note("Recheck blood sugar, then blood sugar again"));
+        assertEquals(List.of(new NoteMatch(0, 0, 11), new NoteMatch(1, 8, 19), new NoteMatch(1, 26, 37)),
+                new NoteContainsPhrasePredicate("blood sugar").getMatches(patient));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate("insulin");
+        String expected = NoteContainsPhrasePredicate.class.getCanonicalName() + "{phrase=insulin}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,6 +39,23 @@ public class NoteTest {
                     + "lives with mother and has difficulty swallowing")); // long address
     }
 
+    @Test
+    public void of_equalNotes_returnsSameInstance() {
+        Note note = Note.of(new String("No seafood"));
+        assertSame(note, Note.of(new String("No seafood")));
+        assertThrows(IllegalArgumentException.class, () -> Note.of("a".repeat(Note.MAX_LENGTH + 1)));
+    }
+
+    @Test
+    public void isValidNote_sameAsValidationRegex() {
+        String[] notes = {"a", "\tx", "\u000Bx", "\u00a0x", "x\ty", "x\ny", "x\ry", "x\u0085y", "x\u2028y",
+            "x\u2029y", "\u2028", "x ", "a".repeat(200) + "\n"};
+        for (String note : notes) {
+            boolean isExpectedValid = note.matches(Note.VALIDATION_REGEX) && note.length() <= Note.MAX_LENGTH;
+            assertEquals(isExpectedValid, Note.isValidNote(note), note);
+        }
+    }
+
     @Test
     public void equals() {
         Note note = new Note("Valid Note");
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+
+public class NoteTextIndexTest {
+
+    private static final Patient DIABETIC = new PatientBuilder().withName("Diabetic Patient")
+            .withNote("Started on insulin; check blood sugar daily").build()
+            .addNote(new Note("Blood sugar high, insulin dose increased"))
+            .addNote(new Note("Shortness of breath after the insulin injection"));
+    private static final Patient ASTHMATIC = new PatientBuilder().withName("Asthmatic Patient").withPhone("91234567")
+            .withNote("Shortness in breath, uses an inhaler").build();
+
+    private final NoteTextIndex noteIndex = new NoteTextIndex();
+
+    @Test
+    public void tokenize_skipsStopwordsAndPunctuation() {
+        assertEquals(List.of(new NoteTextIndex.Term("shortness", 0, 0, 9), new NoteTextIndex.Term("breath", 2, 13, 19),
+                new NoteTextIndex.Term("2x", 3, 21, 23)), NoteTextIndex.tokenize("Shortness of breath, 2x."));
+        assertTrue(NoteTextIndex.tokenize("The ... of, to").isEmpty());
+    }
+
+    @Test
+    public void findPhrase_sameAsScanningNotes() {
+        noteIndex.add(DIABETIC);
+        noteIndex.add(ASTHMATIC);
+        noteIndex.add(ALICE);
+        for (String phrase : List.of("insulin", "blood sugar", "BLOOD, sugar!", "sugar blood", "shortness of breath",
+                "breath", "insulin injection", "inhaler", "pancreas", "of the insulin")) {
+            NoteContainsPhrasePredicate predicate = new NoteContainsPhrasePredicate(phrase);
+            for (Person person : List.of(DIABETIC, ASTHMATIC, ALICE)) {
+                assertEquals(predicate.getMatches(person), noteIndex.findPhrase(person, predicate.getTerms()),
+                        phrase + " in " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void findPhrase_returnsMatchesInOrder() {
+        noteIndex.add(DIABETIC);
+        List<NoteMatch> matches = noteIndex.findPhrase(DIABETIC,
+                new NoteContainsPhrasePredicate("insulin").getTerms());
+        assertEquals(List.of(new NoteMatch(0, 11, 18), new NoteMatch(1, 18, 25), new NoteMatch(2, 30, 37)), matches);
+
+        // the match spans the stopwords within the phrase
+        matches = noteIndex.findPhrase(ASTHMATIC, new NoteContainsPhrasePredicate("shortness of breath").getTerms());
+        assertTrue(matches.isEmpty());
+        noteIndex.add(ASTHMATIC);
+        matches = noteIndex.findPhrase(ASTHMATIC, new NoteContainsPhrasePredicate("shortness of breath").getTerms());
+        assertEquals(List.of(new NoteMatch(0, 0, 19)), matches);
+    }
+
+    @Test
+    public void remove_indexedPatient_noLongerFound() {
+        Patient withMoreNotes = DIABETIC.addNote(new Note("Insulin pump fitted"));
+        noteIndex.add(DIABETIC);
+        noteIndex.add(ASTHMATIC);
+        noteIndex.remove(DIABETIC);
+        noteIndex.add(withMoreNotes);
+
+        List<NoteContainsPhrasePredicate> predicates = List.of(new NoteContainsPhrasePredicate("insulin"),
+                new NoteContainsPhrasePredicate("breath"));
+        for (NoteContainsPhrasePredicate predicate : predicates) {
+            assertTrue(noteIndex.findPhrase(DIABETIC, predicate.getTerms()).isEmpty());
+        }
+        assertEquals(4, noteIndex.findPhrase(withMoreNotes, predicates.get(0).getTerms()).size());
+        assertEquals(1, noteIndex.findPhrase(ASTHMATIC, predicates.get(1).getTerms()).size());
+
+        noteIndex.clear();
+        assertTrue(noteIndex.findPhrase(ASTHMATIC, predicates.get(1).getTerms()).isEmpty());
+    }
+}
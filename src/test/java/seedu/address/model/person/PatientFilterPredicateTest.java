@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PatientFilterPredicateTest {
+
+    private static final Set<Tag> HIGH = Set.of(Tag.of("high"));
+    private static final Optional<LocalDate> DATE = Optional.of(LocalDate.of(2099, 12, 31));
+
+    @Test
+    public void equals() {
+        PatientFilterPredicate firstPredicate = new PatientFilterPredicate(HIGH, List.of("Alice"), DATE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PatientFilterPredicate(HIGH, List.of("Alice"), DATE)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(new PatientFilterPredicate(Set.of(), List.of("Alice"), DATE)));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new PatientFilterPredicate(HIGH, List.of("Bob"), DATE)));
+
+        // different date -> returns false
+        assertFalse(firstPredicate.equals(new PatientFilterPredicate(HIGH, List.of("Alice"), Optional.empty())));
+    }
+
+    @Test
+    public void test_matchesAllCriteria_returnsTrue() {
+        Patient patient = new PatientBuilder().withName("Alice Bob").withTag("high")
+                .withAppointment("31-12-2099", "23:59").build();
+
+        assertTrue(new PatientFilterPredicate(HIGH, List.of("alice"), DATE).test(patient));
+        assertTrue(new PatientFilterPredicate(Set.of(Tag.of("low"), Tag.of("high")), List.of(), Optional.empty())
+                .test(patient));
+        assertTrue(new PatientFilterPredicate(Set.of(), List.of("Carol", "Bob"), Optional.empty()).test(patient));
+        assertTrue(new PatientFilterPredicate(Set.of(), List.of(), DATE).test(patient));
+    }
+
+    @Test
+    public void test_failsAnyCriterion_returnsFalse() {
+        Patient patient = new PatientBuilder().withName("Alice Bob").withTag("high")
+                .withAppointment("01-01-2100", "00:00").build();
+
+        // different tag
+        assertFalse(new PatientFilterPredicate(Set.of(Tag.of("low")), List.of("Alice"), Optional.empty())
+                .test(patient));
+
+        // no matching keyword
+        assertFalse(new PatientFilterPredicate(HIGH, List.of("Carol"), Optional.empty()).test(patient));
+
+        // appointment on another day
+        assertFalse(new PatientFilterPredicate(HIGH, List.of("Alice"), DATE).test(patient));
+
+        // untagged patient
+        Patient untagged = new Patient(new Name("Alice Bob"), new Phone("91234567"), new Address("Clementi"), null,
+                List.of());
+        assertFalse(new PatientFilterPredicate(HIGH, List.of(), Optional.empty()).test(untagged));
+    }
+
+    @Test
+    public void test_personNotPatient() {
+        Person person = new PersonBuilder().withName("Alice Bob").build();
+        assertTrue(new PatientFilterPredicate(Set.of(), List.of("Alice"), Optional.empty()).test(person));
+        assertFalse(new PatientFilterPredicate(HIGH, List.of("Alice"), Optional.empty()).test(person));
+        assertFalse(new PatientFilterPredicate(Set.of(), List.of("Alice"), DATE).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PatientFilterPredicate predicate = new PatientFilterPredicate(HIGH, List.of("Alice"), DATE);
+
+        String expected = PatientFilterPredicate.class.getCanonicalName() + "{tags=" + HIGH + ", keywords="
+                + List.of("Alice") + ", date=" + DATE.get() + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -178,6 +178,23 @@ public class PatientTest {
         assertEquals("Additional note", updatedPatient.getNotes().get(1).value);
     }
 
+    @Test
+    public void addNote_toEarlierVersion_laterVersionsUnchanged() {
+        Patient base = new PatientBuilder().withNote("Existing note").build();
+        Patient first = base.addNote(new Note("First note"));
+        Patient second = base.addNote(new Note("Second note"));
+
+        assertEquals(List.of(new Note("Existing note"), new Note("First note")), first.getNotes());
+        assertEquals(List.of(new Note("Existing note"), new Note("Second note")), second.getNotes());
+        assertEquals(1, base.getNotes().size());
+    }
+
+    @Test
+    public void getNotes_modify_throwsUnsupportedOperationException() {
+        Patient patient = new PatientBuilder().withNote("Existing note").build();
+        assertThrows(UnsupportedOperationException.class, () -> patient.getNotes().add(new Note("Other note")));
+    }
+
     @Test
     public void addNote_nullNote_throwsNullPointerException() {
         Patient patient = new PatientBuilder().build();
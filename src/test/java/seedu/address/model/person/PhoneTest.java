@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -40,6 +41,15 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        String[] phones = {"", "12", "123", "123456789012345", "1234567890123456", "12a", "+6591234567",
+            "\u0661\u0662\u0663", "123\n", " 123"};
+        for (String phone : phones) {
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone), phone);
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+
+public class TagIndexTest {
+
+    private static final Patient HIGH = new PatientBuilder().withName("High").withTag("high").build();
+    private static final Patient HIGH_TOO = new PatientBuilder().withName("High Too").withTag("high").build();
+    private static final Patient LOW = new PatientBuilder().withName("Low").withTag("low").build();
+    private static final Patient UNTAGGED = new Patient(new Name("Untagged"), new Phone("91234567"),
+            new Address("Clementi"), null, List.of());
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void getWithAnyOf_returnsPatientsWithTags() {
+        List.of(HIGH, LOW, HIGH_TOO, UNTAGGED).forEach(index::add);
+
+        assertMatches(index.getWithAnyOf(Set.of(Tag.of("high"))), HIGH, HIGH_TOO);
+        assertMatches(index.getWithAnyOf(Set.of(Tag.of("high"), Tag.of("low"))), HIGH, HIGH_TOO, LOW);
+        assertMatches(index.getWithAnyOf(Set.of(Tag.of("medium"))));
+        assertMatches(index.getAll(), HIGH, LOW, HIGH_TOO, UNTAGGED);
+    }
+
+    @Test
+    public void remove_slotGivenToNextPerson() {
+        index.add(HIGH);
+        index.add(LOW);
+        index.remove(HIGH);
+        index.remove(UNTAGGED);
+        assertMatches(index.getWithAnyOf(Set.of(Tag.of("high"))));
+
+        index.add(UNTAGGED);
+        assertEquals(2, index.getAll().length());
+        assertMatches(index.getAll(), LOW, UNTAGGED);
+        assertMatches(index.getWithAnyOf(Set.of(Tag.of("high"))));
+    }
+
+    @Test
+    public void toBitmap_leavesOutPersonsNotInIndex() {
+        index.add(HIGH);
+        index.add(LOW);
+
+        BitSet bitmap = index.toBitmap(List.of(LOW, UNTAGGED));
+        assertMatches(bitmap, LOW);
+        assertFalse(index.contains(bitmap, UNTAGGED));
+    }
+
+    @Test
+    public void contains_samePersonDifferentInstance_returnsFalse() {
+        index.add(HIGH);
+        Patient copy = new PatientBuilder(HIGH).build();
+        assertFalse(index.contains(index.getAll(), copy));
+    }
+
+    @Test
+    public void set_personInIndex_updatesSlot() {
+        index.add(HIGH);
+        index.add(LOW);
+        BitSet bitmap = index.getWithAnyOf(Set.of(Tag.of("high")));
+
+        index.set(bitmap, LOW, true);
+        assertMatches(bitmap, HIGH, LOW);
+        index.set(bitmap, HIGH, false);
+        assertMatches(bitmap, LOW);
+
+        // persons not in the index are left out
+        index.set(bitmap, HIGH_TOO, true);
+        assertMatches(bitmap, LOW);
+    }
+
+    private void assertMatches(BitSet bitmap, Person... persons) {
+        assertEquals(persons.length, bitmap.cardinality());
+        for (Person person : persons) {
+            assertTrue(index.contains(bitmap, person));
+        }
+    }
+}
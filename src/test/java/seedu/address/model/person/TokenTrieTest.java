@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TokenTrieTest {
+
+    private static final List<String> WORDS = List.of("alice", "alicia", "al", "alex", "bob", "bobby", "kurz", "kunz");
+
+    private final TokenTrie trie = new TokenTrie();
+
+    @Test
+    public void contains() {
+        trie.add("alice");
+        trie.add("al");
+        assertTrue(trie.contains("alice"));
+        assertTrue(trie.contains("al"));
+        assertFalse(trie.contains("ali"));
+        assertFalse(trie.contains("alicex"));
+        assertFalse(trie.contains(""));
+    }
+
+    @Test
+    public void remove_prefixOfOtherWord_otherWordKept() {
+        trie.add("alice");
+        trie.add("al");
+        trie.remove("al");
+        assertFalse(trie.contains("al"));
+        assertTrue(trie.contains("alice"));
+
+        trie.remove("alice");
+        assertFalse(trie.contains("alice"));
+        assertEquals(Map.of(), withPrefix(""));
+    }
+
+    @Test
+    public void remove_absentWord_noChange() {
+        trie.add("alice");
+        trie.remove("ali");
+        trie.remove("bob");
+        assertTrue(trie.contains("alice"));
+    }
+
+    @Test
+    public void forEachWithPrefix() {
+        WORDS.forEach(trie::add);
+        assertEquals(Map.of("alice", 2, "alicia", 3), withPrefix("ali"));
+        assertEquals(Map.of("bob", 0, "bobby", 2), withPrefix("bob"));
+        assertEquals(Map.of(), withPrefix("carl"));
+        assertEquals(WORDS.size(), withPrefix("").size());
+    }
+
+    @Test
+    public void forEachWithinDistance_sameAsEditDistance() {
+        WORDS.forEach(trie::add);
+        for (String word : List.of("alce", "alice", "kurt", "bobb", "", "xyz", "ali")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String candidate : WORDS) {
+                    int distance = StringUtil.editDistance(word, candidate);
+                    if (distance <= maxDistance) {
+                        expected.put(candidate, distance);
+                    }
+                }
+                assertEquals(expected, withinDistance(word, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void clear() {
+        WORDS.forEach(trie::add);
+        trie.clear();
+        assertEquals(Map.of(), withPrefix(""));
+    }
+
+    private Map<String, Integer> withPrefix(String prefix) {
+        Map<String, Integer> words = new HashMap<>();
+        trie.forEachWithPrefix(prefix, words::put);
+        return words;
+    }
+
+    private Map<String, Integer> withinDistance(String word, int maxDistance) {
+        Map<String, Integer> words = new HashMap<>();
+        trie.forEachWithinDistance(word, maxDistance, words::put);
+        return words;
+    }
+}
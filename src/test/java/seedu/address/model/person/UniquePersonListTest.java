@@ -8,14 +8,21 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -101,6 +108,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityChecks() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -124,6 +141,127 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_equalPersonNotInList_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovals_findsPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (char) ('A' + i)).withPhone("9000000" + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+
+        uniquePersonList.remove(persons.remove(0));
+        uniquePersonList.remove(persons.remove(3));
+        Person edited = new PersonBuilder(persons.get(7)).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(persons.get(7), edited);
+        persons.set(7, edited);
+        uniquePersonList.remove(persons.remove(5));
+        uniquePersonList.remove(persons.remove(0));
+
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        for (Person person : List.copyOf(persons)) {
+            uniquePersonList.remove(person);
+            persons.remove(person);
+            assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void inListOrder_afterEarlierRemovals_returnsPersonsInListOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (char) ('A' + i)).withPhone("9000000" + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+        uniquePersonList.remove(persons.remove(1));
+        uniquePersonList.remove(persons.remove(2));
+
+        assertEquals(List.of(persons.get(0), persons.get(2), persons.get(3)),
+                uniquePersonList.inListOrder(List.of(persons.get(3), persons.get(0), persons.get(2))));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.inListOrder(List.of(BOB)));
+    }
+
+    @Test
+    public void getPersonsWithNameContainingAnyOf_keywordsMatchingNames_returnsMatchesInListOrder() {
+        Person aliceTan = new PersonBuilder().withName("Alice Tan").withPhone("91111111").build();
+        Person bobLim = new PersonBuilder().withName("Bob Lim").withPhone("92222222").build();
+        Person carolTan = new PersonBuilder().withName("Carol Tan").withPhone("93333333").build();
+        List.of(aliceTan, bobLim, carolTan).forEach(uniquePersonList::add);
+
+        assertEquals(List.of(aliceTan, carolTan), uniquePersonList.getPersonsWithNameContainingAnyOf(List.of("TAN")));
+        assertEquals(List.of(aliceTan, bobLim),
+                uniquePersonList.getPersonsWithNameContainingAnyOf(List.of("lim", "alice", "Alice")));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithNameContainingAnyOf(List.of("Ali")));
+    }
+
+    @Test
+    public void getPersonsWithNotesContaining_phraseInNotes_returnsMatchesInListOrder() {
+        Patient first = new PatientBuilder().withName("Alice Tan").withPhone("91111111")
+                .withNote("Sharp chest pain at night").build();
+        Patient second = new PatientBuilder().withName("Bob Lim").withPhone("92222222")
+                .withNote("Pain in the chest").build();
+        Patient third = new PatientBuilder().withName("Carol Tan").withPhone("93333333")
+                .withNote("chest pain, mild").build();
+        List.of(first, second, third).forEach(uniquePersonList::add);
+
+        assertEquals(List.of(first, third),
+                uniquePersonList.getPersonsWithNotesContaining(new NoteContainsPhrasePredicate("chest pain")));
+    }
+
+    @Test
+    public void getId_editedPerson_keepsId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        long aliceId = uniquePersonList.getId(ALICE);
+        assertFalse(aliceId == uniquePersonList.getId(BOB));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(aliceId, uniquePersonList.getId(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getId(ALICE));
+
+        uniquePersonList.setPersons(List.of(BOB, editedAlice));
+        assertEquals(aliceId, uniquePersonList.getId(editedAlice));
+    }
+
+    @Test
+    public void getId_listReplacedBySameIdentities_keepsIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        long aliceId = uniquePersonList.getId(ALICE);
+        long bobId = uniquePersonList.getId(BOB);
+
+        // as when an edit is rolled back by replacing the list with a copy taken before it
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        UniquePersonList rolledBack = new UniquePersonList();
+        rolledBack.setPersons(List.of(BOB, editedAlice));
+        uniquePersonList.setPersons(rolledBack);
+        assertEquals(aliceId, uniquePersonList.getId(editedAlice));
+        assertEquals(bobId, uniquePersonList.getId(BOB));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPersons(List.of(renamedAlice));
+        assertFalse(uniquePersonList.getId(renamedAlice) == aliceId);
+        assertFalse(uniquePersonList.getId(renamedAlice) == bobId);
+    }
+
+    @Test
+    public void getId_removedPerson_idNotReused() {
+        uniquePersonList.add(ALICE);
+        long aliceId = uniquePersonList.getId(ALICE);
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.add(BOB);
+        assertFalse(aliceId == uniquePersonList.getId(BOB));
     }
 
     @Test
@@ -138,6 +276,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -161,6 +301,211 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesOwnListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyOf_keywordsMatchingNames_matchesIgnoringCase() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyOf(Arrays.asList("pAuLiNe", "Carol"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BOB));
+    }
+
+    @Test
+    public void nameContainsAnyOf_listModifiedAfterwards_reflectsModifications() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyOf(Collections.singletonList("Choo"));
+        assertFalse(predicate.test(ALICE));
+
+        uniquePersonList.add(BOB);
+        assertTrue(predicate.test(BOB));
+
+        Person renamedBob = new PersonBuilder(BOB).withName("Bob Tan").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        assertFalse(predicate.test(renamedBob));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertTrue(predicate.test(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(predicate.test(BOB));
+    }
+
+    @Test
+    public void filter_sameAsPredicate() {
+        List<Person> persons = List.of(
+                new PatientBuilder().withName("Alice Tan").withPhone("91111111").withTag("high")
+                        .withAppointment("31-12-2099", "09:00").build(),
+                new PatientBuilder().withName("Bob Tan").withPhone("92222222").withTag("medium")
+                        .withAppointment("31-12-2099", "10:00").build(),
+                new PatientBuilder().withName("Carol Lim").withPhone("93333333").withTag("high").build(),
+                new PatientBuilder().withName("Alice Lim").withPhone("94444444").withTag("low")
+                        .withAppointment("01-01-2100", "09:00").build(),
+                ALICE);
+        persons.forEach(uniquePersonList::add);
+
+        Optional<LocalDate> date = Optional.of(LocalDate.of(2099, 12, 31));
+        List<PatientFilterPredicate> predicates = List.of(
+                new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), Optional.empty()),
+                new PatientFilterPredicate(Set.of(Tag.of("high"), Tag.of("medium")), List.of(), date),
+                new PatientFilterPredicate(Set.of(), List.of("alice", "BOB"), Optional.empty()),
+                new PatientFilterPredicate(Set.of(Tag.of("low")), List.of("Alice"), Optional.empty()),
+                new PatientFilterPredicate(Set.of(), List.of("Lim"), date));
+        for (PatientFilterPredicate predicate : predicates) {
+            Predicate<Person> filter = uniquePersonList.filter(predicate);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), filter.test(person), predicate + " " + person);
+            }
+            assertEquals(persons.stream().filter(predicate).toList(), uniquePersonList.getPersonsMatching(predicate));
+        }
+    }
+
+    @Test
+    public void filter_listModifiedAfterwards_reflectsModifications() {
+        Patient patient = new PatientBuilder().withName("Alice Tan").withTag("low").build();
+        uniquePersonList.add(patient);
+        Predicate<Person> filter = uniquePersonList.filter(
+                new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(), Optional.empty()));
+        assertFalse(filter.test(patient));
+
+        Patient retagged = new PatientBuilder(patient).withTag("high").build();
+        uniquePersonList.setPerson(patient, retagged);
+        assertTrue(filter.test(retagged));
+        assertFalse(filter.test(patient));
+
+        Patient added = new PatientBuilder().withName("Bob Tan").withPhone("92222222").withTag("high").build();
+        uniquePersonList.add(added);
+        assertTrue(filter.test(added));
+
+        uniquePersonList.remove(retagged);
+        assertFalse(filter.test(retagged));
+        assertTrue(filter.test(added));
+
+        uniquePersonList.setPersons(Collections.singletonList(patient));
+        assertFalse(filter.test(patient));
+        assertFalse(filter.test(added));
+    }
+
+    @Test
+    public void filter_listModifiedAfterwards_onlyTestsModifiedPersons() {
+        for (int i = 0; i < 100; i++) {
+            uniquePersonList.add(new PatientBuilder().withName("Patient " + (char) ('a' + i % 26) + " Tan")
+                    .withPhone(String.valueOf(90000000 + i)).withTag(i % 2 == 0 ? "high" : "low").build());
+        }
+        int[] testCount = new int[1];
+        PatientFilterPredicate predicate = new PatientFilterPredicate(Set.of(Tag.of("high")), List.of(),
+                Optional.empty()) {
+            @Override
+            public boolean test(Person person) {
+                testCount[0]++;
+                return super.test(person);
+            }
+        };
+        Predicate<Person> filter = uniquePersonList.filter(predicate);
+        assertEquals(0, testCount[0]);
+
+        Person target = uniquePersonList.asUnmodifiableObservableList().get(1);
+        Person retagged = new PatientBuilder((Patient) target).withTag("high").build();
+        uniquePersonList.setPerson(target, retagged);
+        assertEquals(1, testCount[0]);
+        assertTrue(filter.test(retagged));
+
+        uniquePersonList.remove(retagged);
+        assertEquals(1, testCount[0]);
+        assertFalse(filter.test(retagged));
+    }
+
+    @Test
+    public void snapshot_listModifiedAfterwards_keepsPersonsAtVersion() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> snapshot = uniquePersonList.snapshot();
+        long version = uniquePersonList.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+
+        assertEquals(Arrays.asList(ALICE, BOB), snapshot);
+        assertTrue(uniquePersonList.getVersion() > version);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_readBeforeAndAfterModification_keepsPersonsAtVersion() {
+        uniquePersonList.add(ALICE);
+        List<Person> snapshot = uniquePersonList.snapshot();
+        assertEquals(Collections.singletonList(ALICE), snapshot);
+
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singletonList(ALICE), snapshot);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.snapshot());
+    }
+
+    @Test
+    public void getChangesBetween_modificationsInBetween_returnsModificationsInOrder() {
+        uniquePersonList.add(ALICE);
+        List<Person> earlier = uniquePersonList.snapshot();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+        List<Person> later = uniquePersonList.snapshot();
+
+        assertEquals(Optional.of(List.of(PersonListChange.added(1, BOB),
+                PersonListChange.replaced(0, ALICE, editedAlice), PersonListChange.removed(1, BOB))),
+                UniquePersonList.getChangesBetween(earlier, later));
+        assertEquals(Optional.of(List.of()), UniquePersonList.getChangesBetween(later, later));
+    }
+
+    @Test
+    public void getChangesBetween_changesNotRecorded_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        List<Person> earlier = uniquePersonList.snapshot();
+        uniquePersonList.add(BOB);
+        List<Person> later = uniquePersonList.snapshot();
+
+        // snapshots taken the wrong way round
+        assertEquals(Optional.empty(), UniquePersonList.getChangesBetween(later, earlier));
+
+        // snapshots of different lists
+        UniquePersonList otherList = new UniquePersonList();
+        otherList.add(ALICE);
+        assertEquals(Optional.empty(), UniquePersonList.getChangesBetween(earlier, otherList.snapshot()));
+
+        // persons that are not a snapshot
+        assertEquals(Optional.empty(), UniquePersonList.getChangesBetween(List.of(ALICE), later));
+
+        // list replaced as a whole in between
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), UniquePersonList.getChangesBetween(earlier, uniquePersonList.snapshot()));
+    }
+
+    @Test
+    public void getVersion_failedModification_unchanged() {
+        uniquePersonList.add(ALICE);
+        long version = uniquePersonList.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        assertEquals(version, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> uniquePersonList.snapshot().add(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
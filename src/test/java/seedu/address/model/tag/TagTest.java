@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_validTagName_returnsSharedTag() {
+        assertSame(Tag.of("high"), Tag.of("HIGH"));
+        assertEquals(new Tag("medium"), Tag.of("Medium"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("urgent"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
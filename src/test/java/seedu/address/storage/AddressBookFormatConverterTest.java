@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToBinaryToJson_typicalPatients_roundTrips() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path convertedJsonFilePath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.jsonToBinary(jsonFilePath, binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        assertTrue(AddressBookFormatConverter.binaryToJson(binaryFilePath, convertedJsonFilePath));
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedJsonFilePath));
+    }
+
+    @Test
+    public void convert_missingSourceFile_returnsFalse() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        assertFalse(AddressBookFormatConverter.jsonToBinary(testFolder.resolve("missing.json"), binaryFilePath));
+        assertFalse(FileUtil.isFileExists(binaryFilePath));
+    }
+}
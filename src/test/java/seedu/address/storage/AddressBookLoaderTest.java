@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class AddressBookLoaderTest {
+
+    private static final int PATIENT_COUNT = AddressBookLoader.BATCH_SIZE + AddressBookLoader.CHUNK_SIZE * 3 + 7;
+
+    @Test
+    public void finish_manyPatients_addedInOrder() throws Exception {
+        List<JsonAdaptedPatient> patients = generatePatients(PATIENT_COUNT);
+        AddressBook addressBook = load(patients);
+
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(PATIENT_COUNT, persons.size());
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            assertEquals(patients.get(i).toModelType(), persons.get(i));
+        }
+    }
+
+    @Test
+    public void finish_noPatients_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), new AddressBookLoader().finish());
+    }
+
+    @Test
+    public void finish_invalidPatientBeforeDuplicate_reportsInvalidPatient() {
+        List<JsonAdaptedPatient> patients = generatePatients(PATIENT_COUNT);
+        patients.set(AddressBookLoader.BATCH_SIZE + 10, invalidPhonePatient());
+        patients.set(AddressBookLoader.BATCH_SIZE + 20, patients.get(0));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> load(patients));
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidPatient_reportsDuplicate() {
+        List<JsonAdaptedPatient> patients = generatePatients(PATIENT_COUNT);
+        patients.set(AddressBookLoader.BATCH_SIZE + 10, patients.get(0));
+        patients.set(AddressBookLoader.BATCH_SIZE + 20, invalidPhonePatient());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                load(patients));
+    }
+
+    @Test
+    public void add_invalidPatientInFirstBatch_throwsWhenBatchIsFull() {
+        List<JsonAdaptedPatient> patients = generatePatients(AddressBookLoader.BATCH_SIZE);
+        patients.set(5, new JsonAdaptedPatient("R@chel", "94351253", "4th street", null, null, null, null));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> {
+            AddressBookLoader loader = new AddressBookLoader();
+            for (JsonAdaptedPatient patient : patients) {
+                loader.add(patient);
+            }
+        });
+    }
+
+    private static AddressBook load(List<JsonAdaptedPatient> patients) throws IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+        for (JsonAdaptedPatient patient : patients) {
+            loader.add(patient);
+        }
+        return loader.finish();
+    }
+
+    private static List<JsonAdaptedPatient> generatePatients(int count) {
+        List<JsonAdaptedPatient> patients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            patients.add(new JsonAdaptedPatient("Patient " + i, String.valueOf(80000000 + i), "Blk " + i + " Street",
+                    null, null, List.of("Note " + (i % 10)), new JsonAdaptedTag("low")));
+        }
+        return patients;
+    }
+
+    private static JsonAdaptedPatient invalidPhonePatient() {
+        return new JsonAdaptedPatient("Invalid Phone", "+651234", "4th street", null, null, null, null);
+    }
+}
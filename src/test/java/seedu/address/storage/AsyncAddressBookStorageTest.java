@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ManualExecutor executor = new ManualExecutor();
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestOnly() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage, executor);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(HOON);
+
+        assertTrue(recordingStorage.saved.isEmpty());
+        executor.runAll();
+        assertEquals(List.of(expected), recordingStorage.saved);
+    }
+
+    @Test
+    public void saveAddressBook_earlierSaveFailed_throwsIoExceptionAndSavesAgain() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage, executor);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        recordingStorage.isFailing = true;
+        storage.saveAddressBook(addressBook);
+        executor.runAll();
+
+        recordingStorage.isFailing = false;
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        executor.runAll();
+        assertEquals(List.of(addressBook), recordingStorage.saved);
+
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_saveFailsWithListener_givesFailureToListenerOnly() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage, executor);
+        List<IOException> failures = new ArrayList<>();
+        storage.addSaveFailureListener(failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        recordingStorage.isFailing = true;
+        storage.saveAddressBook(addressBook);
+        assertTrue(failures.isEmpty());
+        executor.runAll();
+        assertEquals(1, failures.size());
+
+        // the failure has been given to the listener, so it is not thrown again
+        recordingStorage.isFailing = false;
+        storage.saveAddressBook(addressBook);
+        executor.runAll();
+        storage.flush();
+        assertEquals(List.of(addressBook), recordingStorage.saved);
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        recordingStorage.isFailing = true;
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage, executor);
+
+        storage.saveAddressBook(new AddressBook());
+        executor.runAll();
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new RecordingAddressBookStorage(testFolder.resolve("ab.json")), executor);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_backgroundThread_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * An executor that runs the tasks given to it only when asked to.
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+
+    /**
+     * A storage that records the address books saved to it, or fails to save them.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> saved = new ArrayList<>();
+        private boolean isFailing;
+
+        RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy IO exception");
+            }
+            saved.add(new AddressBook(addressBook));
+        }
+    }
+}
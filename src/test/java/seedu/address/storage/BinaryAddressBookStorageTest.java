@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        Patient carl = new PatientBuilder().withName("Carl Kurz").withPhone("95352563").withAddress("wall street")
+                .withTag("high").withAppointment("31-12-2099", "09:30").build();
+        original.addPerson(carl);
+        original.setPerson(ALICE, ALICE.addNote(new Note("No peanuts")).addNote(new Note("Diabetic")));
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.removePerson(carl);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // a directory in place of the temporary file makes writing the new file fail
+        Files.createDirectory(filePath.resolveSibling(filePath.getFileName() + ".tmp"));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedStrings_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook addressBook = new AddressBook();
+        String note = "Follow up on blood test results in two weeks";
+        addressBook.addPerson(new PatientBuilder().withName("Amy").withTag("low").withNote(note).build());
+        addressBook.addPerson(new PatientBuilder().withName("Bob").withTag("low").withNote(note).build());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(1, countOccurrences(bytes, note.getBytes()));
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.writeString(filePath, "{ \"persons\" : [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        writeHeader(filePath, BinaryAddressBookStorage.MAGIC, (short) (BinaryAddressBookStorage.FORMAT_VERSION + 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new ReadOnlyAddressBook() {
+            @Override
+            public javafx.collections.ObservableList<seedu.address.model.person.Person> getPersonList() {
+                return javafx.collections.FXCollections.observableArrayList(ALICE, ALICE);
+            }
+        });
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static void writeHeader(Path filePath, int magic, short version) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(magic);
+            out.writeShort(version);
+            out.writeInt(0);
+            out.writeInt(0);
+        }
+    }
+
+    private static int countOccurrences(byte[] bytes, byte[] pattern) {
+        int count = 0;
+        for (int i = 0; i + pattern.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Patient CARL = new PatientBuilder().withName("Carl Kurz").withPhone("95352563")
+            .withAddress("wall street").withTag("medium").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original.snapshot());
+
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertFalse(FileUtil.isFileExists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterSaves_appendToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+        Patient aliceWithNote = ALICE.addNote(new Note("Allergic to penicillin"));
+        original.setPerson(ALICE, aliceWithNote);
+        original.removePerson(BOB);
+        storage.saveAddressBook(original.snapshot());
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(1 + 3, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_personEditedInMiddle_journalsSingleEntry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+
+        original.setPerson(BOB, BOB.addNote(new Note("Prefers morning appointments")));
+        storage.saveAddressBook(original.snapshot());
+
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(1 + 1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot(), otherFilePath);
+
+        assertFalse(FileUtil.isFileExists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertTrue(FileUtil.isFileExists(journalFilePath));
+
+        original.removePerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original.snapshot());
+
+        assertFalse(FileUtil.isFileExists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        FileUtil.appendToFile(journalFilePath, "{\"op\":\"DELETE\",\"ind");
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        FileUtil.appendToFile(journalFilePath, "{\"op\":\"DELETE\",\"index\":9}\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherGeneration_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        String journal = FileUtil.readFromFile(journalFilePath);
+
+        // a compaction that wrote its snapshot, but was interrupted before removing the journal
+        JournaledAddressBookStorage compactingStorage = new JournaledAddressBookStorage(filePath, 0);
+        compactingStorage.readAddressBook();
+        compactingStorage.saveAddressBook(original.snapshot());
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+        FileUtil.writeToFile(journalFilePath, journal);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWriteFails_journaledChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(CARL);
+        storage.saveAddressBook(original.snapshot());
+
+        // a directory in place of the temporary file makes writing the snapshot fail
+        Files.createDirectory(filePath.resolveSibling(filePath.getFileName() + ".tmp"));
+        AddressBook compacted = new AddressBook(original);
+        compacted.removePerson(CARL);
+        compacted.removePerson(ALICE);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(compacted));
+
+        assertTrue(FileUtil.isFileExists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstSaveAfterRead_compactsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage firstStorage = new JournaledAddressBookStorage(filePath);
+        firstStorage.saveAddressBook(original.snapshot());
+        original.addPerson(CARL);
+        firstStorage.saveAddressBook(original.snapshot());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack.snapshot());
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+
+        readBack.removePerson(CARL);
+        storage.saveAddressBook(readBack.snapshot());
+        assertEquals(1 + 1, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_notSnapshotOfSavedAddressBook_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+
+        AddressBook other = new AddressBook(original);
+        other.addPerson(CARL);
+        storage.saveAddressBook(other.snapshot());
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+
+        other.removePerson(CARL);
+        storage.saveAddressBook(other);
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotModifiedWhileSaving_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+
+        original.addPerson(CARL);
+        AddressBook expected = new AddressBook(original);
+        ReadOnlyAddressBook snapshot = original.snapshot();
+        original.removePerson(BOB);
+        storage.saveAddressBook(snapshot);
+
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void replaced_noteAdded_recordsNoteOnly() throws Exception {
+        Patient aliceWithNote = ALICE.addNote(new Note("Allergic to penicillin"));
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.replaced(0, ALICE, aliceWithNote);
+
+        assertEquals("{\"op\":\"NOTE\",\"index\":0,\"note\":\"Allergic to penicillin\"}",
+                JsonUtil.toCompactJsonString(entry));
+        assertReplayedAs(entry, Arrays.asList(aliceWithNote, BOB));
+    }
+
+    @Test
+    public void replaced_fieldsEdited_recordsWholePerson() throws Exception {
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress("10th street").build();
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.replaced(0, ALICE, editedAlice);
+
+        assertReplayedAs(entry, Arrays.asList(editedAlice, BOB));
+    }
+
+    @Test
+    public void applyTo_addAndRemove_success() throws Exception {
+        Patient carl = new PatientBuilder().withName("Carl Kurz").build();
+
+        assertReplayedAs(JsonAdaptedJournalEntry.added(1, carl), Arrays.asList(ALICE, carl, BOB));
+        assertReplayedAs(JsonAdaptedJournalEntry.removed(0), Arrays.asList(BOB));
+    }
+
+    @Test
+    public void applyTo_indexOutOfRange_throwsIllegalValueException() {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BOB));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedJournalEntry.removed(2).applyTo(persons));
+    }
+
+    @Test
+    public void applyTo_missingOperation_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(null, 0, null, null, null);
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BOB));
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(persons));
+    }
+
+    /**
+     * Round-trips {@code entry} through its JSON form, replays it on the typical patients and checks the result.
+     */
+    private void assertReplayedAs(JsonAdaptedJournalEntry entry, List<Person> expected) throws Exception {
+        JsonAdaptedJournalEntry readBack = JsonUtil.fromJsonString(
+                JsonUtil.toCompactJsonString(entry), JsonAdaptedJournalEntry.class);
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BOB));
+        readBack.applyTo(persons);
+        assertEquals(expected, persons);
+    }
+}
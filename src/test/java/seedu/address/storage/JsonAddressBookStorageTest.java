@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PatientBuilder;
 
 
 
@@ -62,6 +66,21 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_nullPersonAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("nullPersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_noPersonsAddressBook_emptyResult() throws Exception {
+        assertEquals(new AddressBook(), readAddressBook("noPersonsAddressBook.json").get());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -88,6 +107,37 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_keepsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        String previousVersion = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(previousVersion, FileUtil.readFromFile(FileUtil.getBackupFilePath(filePath, 1)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 2)));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_fileLargerThanMappingThreshold_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; original.getPersonList().size() < 2000; i++) {
+            original.addPerson(new PatientBuilder().withName("Patient " + i).withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + i + " Ang Mo Kio Avenue 3, #05-" + i).withNote("Note " + i).build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertTrue(Files.size(filePath) >= FileUtil.MAPPING_THRESHOLD);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
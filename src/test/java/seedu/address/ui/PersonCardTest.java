@@ -3,11 +3,28 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.VBox;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -17,6 +34,22 @@ import seedu.address.testutil.PersonBuilder;
  */
 public class PersonCardTest {
 
+    private static boolean isJavaFxStarted;
+
+    @BeforeAll
+    public static void startJavaFx() {
+        try {
+            Platform.startup(() -> { });
+            isJavaFxStarted = true;
+        } catch (IllegalStateException e) {
+            // started by an earlier test
+            isJavaFxStarted = true;
+        } catch (UnsupportedOperationException e) {
+            // there is no display to start on
+            isJavaFxStarted = false;
+        }
+    }
+
     @Test
     public void constructor_patientWithAppointment_displaysAppointment() {
         Patient patient = new PatientBuilder().withAppointment("31-12-2025", "14:30").build();
@@ -63,4 +96,72 @@ public class PersonCardTest {
         assertEquals("12345678", patient.getPhone().value);
         assertEquals("123 Main St", patient.getAddress().value);
     }
+
+    @Test
+    public void setPerson_reusedCard_replacesNotesAppointmentAndTag() throws Exception {
+        assumeTrue(isJavaFxStarted, "JavaFX cannot be started without a display");
+        Patient withDetails = new PatientBuilder().withName("Alice Tan").withTag("high")
+                .withAppointment("31-12-2099", "09:30").build()
+                .addNote(new Note("No peanuts"))
+                .addNote(new Note("Diabetic"));
+        Patient withoutDetails = new Patient(new Name("Bob Lim"), new Phone("92222222"), new Address("Clementi"),
+                null, List.of());
+        Patient withOneNote = new PatientBuilder().withName("Carl Ong").withTag("low").build()
+                .addNote(new Note("Asthmatic"));
+
+        runOnFxThread(() -> {
+            PersonCard card = new PersonCard(withDetails, 1);
+            assertEquals(List.of("• No peanuts", "• Diabetic"), getTexts(lookup(card, "#notesContainer")));
+            assertEquals(List.of("• 31-12-2099 09:30"), getTexts(lookup(card, "#appointmentContainer")));
+            assertTrue(lookup(card, "#appointmentContainer").isVisible());
+            assertEquals(List.of("high"), getTexts(lookup(card, "#tags")));
+
+            card.setPerson(withoutDetails, 2);
+            assertEquals("Bob Lim", ((Label) card.getRoot().lookup("#name")).getText());
+            assertEquals(List.of(), getTexts(lookup(card, "#notesContainer")));
+            assertFalse(lookup(card, "#notesContainer").isVisible());
+            assertFalse(lookup(card, "#appointmentContainer").isVisible());
+            assertEquals(List.of(), getTexts(lookup(card, "#tags")));
+
+            card.setPerson(withOneNote, 3);
+            assertEquals(List.of("• Asthmatic"), getTexts(lookup(card, "#notesContainer")));
+            assertTrue(lookup(card, "#notesContainer").isVisible());
+            assertFalse(lookup(card, "#appointmentContainer").isVisible());
+            assertEquals(List.of("low"), getTexts(lookup(card, "#tags")));
+        });
+    }
+
+    private static Parent lookup(PersonCard card, String selector) {
+        Node node = card.getRoot().lookup(selector);
+        assertTrue(node instanceof VBox || node instanceof FlowPane, selector);
+        return (Parent) node;
+    }
+
+    private static List<String> getTexts(Parent container) {
+        return container.getChildrenUnmodifiable().stream().map(node -> ((Label) node).getText()).toList();
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread, where the nodes of a card have to be created and modified,
+     * and rethrows anything it throws.
+     */
+    private static void runOnFxThread(Runnable action) throws Exception {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        try {
+            result.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (Exception) e.getCause();
+        }
+    }
 }